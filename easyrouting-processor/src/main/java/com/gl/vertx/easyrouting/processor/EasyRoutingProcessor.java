@@ -0,0 +1,325 @@
+/*
+ *
+ * Copyright 2025 Gregory Ledenev (gregory.ledenev37@gmail.com)
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies
+ * of the Software, and to permit persons to whom the Software is furnished to do
+ * so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * /
+ */
+
+package com.gl.vertx.easyrouting.processor;
+
+import javax.annotation.processing.*;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.*;
+
+/**
+ * Annotation processor that generates registrars for controllers. For every class that declares methods annotated
+ * by HTTP method annotations ({@code @GET}, {@code @POST} etc.), it generates a
+ * {@code <ControllerClass>_EasyRoutingRegistrar} class in the same package. The registrar lists handler methods and
+ * provides invokers that call them directly, so EasyRouting doesn't need to scan controller classes and call handler
+ * methods via reflection.
+ * <p>
+ * Private handler methods are listed with no invoker, so EasyRouting calls them via reflection. Classes that are not
+ * accessible from their package (private, local or anonymous classes) are skipped.
+ * <p>
+ * The processor also generates reflection metadata for GraalVM native images: classes that use EasyRouting
+ * annotations, generated registrars, and parameter and return types of handler and RPC methods are listed in
+ * {@code META-INF/native-image/<id>/reflect-config.json}. Packages of {@code @FileFromResource} classes and folders of
+ * {@code @Template} methods are listed in {@code resource-config.json}, so assets and classpath templates are included
+ * into images. The id can be set by the {@code easyrouting.nativeImageId} option and defaults to
+ * {@code easyrouting/generated}.
+ */
+@SupportedAnnotationTypes(EasyRoutingProcessor.ANNOTATIONS_PACKAGE + ".*")
+@SupportedOptions(EasyRoutingProcessor.NATIVE_IMAGE_ID_OPTION)
+public class EasyRoutingProcessor extends AbstractProcessor {
+    static final String ANNOTATIONS_PACKAGE = "com.gl.vertx.easyrouting.annotations";
+    static final String HTTP_METHODS = ANNOTATIONS_PACKAGE + ".HttpMethods";
+    static final String RPC = ANNOTATIONS_PACKAGE + ".Rpc";
+    static final String FILE_FROM_RESOURCE = ANNOTATIONS_PACKAGE + ".FileFromResource";
+    static final String FILE_FROM_FOLDER = ANNOTATIONS_PACKAGE + ".FileFromFolder";
+    static final String TEMPLATE = ANNOTATIONS_PACKAGE + ".Template";
+    static final String REGISTRAR_SUFFIX = "_EasyRoutingRegistrar";
+    static final String NATIVE_IMAGE_ID_OPTION = "easyrouting.nativeImageId";
+    static final String DEFAULT_NATIVE_IMAGE_ID = "easyrouting/generated";
+
+    private NativeImageMetadata nativeImageMetadata;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        nativeImageMetadata = new NativeImageMetadata(processingEnv);
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Map<TypeElement, List<Handler>> handlers = new LinkedHashMap<>();
+
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                collectNativeImageMetadata(element, annotation);
+
+                if (element.getKind() != ElementKind.METHOD || !isHttpMethodAnnotation(annotation))
+                    continue;
+
+                ExecutableElement method = (ExecutableElement) element;
+                TypeElement controller = (TypeElement) method.getEnclosingElement();
+                if (!isAccessible(controller)) {
+                    processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                            "Skipping inaccessible controller class: " + controller, controller);
+                    continue;
+                }
+
+                if (annotationValue(method, annotation) instanceof String path)
+                    handlers.computeIfAbsent(controller, k -> new ArrayList<>())
+                            .add(new Handler(annotation, path, method));
+            }
+        }
+
+        handlers.forEach(this::generateRegistrar);
+
+        if (roundEnv.processingOver() && !nativeImageMetadata.isEmpty())
+            writeNativeImageMetadata();
+
+        return false;
+    }
+
+    private static boolean isHttpMethodAnnotation(TypeElement annotation) {
+        return annotation.getEnclosingElement() instanceof TypeElement enclosingType &&
+                enclosingType.getQualifiedName().contentEquals(HTTP_METHODS);
+    }
+
+    private void collectNativeImageMetadata(Element element, TypeElement annotation) {
+        Element enclosingElement = element;
+        while (enclosingElement != null && !(enclosingElement instanceof TypeElement))
+            enclosingElement = enclosingElement.getEnclosingElement();
+        if (enclosingElement == null)
+            return;
+
+        nativeImageMetadata.addController((TypeElement) enclosingElement);
+        if (element instanceof ExecutableElement method) {
+            nativeImageMetadata.addDataTypes(method);
+            collectResources(method, annotation);
+        } else if (element == enclosingElement && annotation.getQualifiedName().contentEquals(RPC)) {
+            for (ExecutableElement method : ElementFilter.methodsIn(element.getEnclosedElements()))
+                nativeImageMetadata.addDataTypes(method);
+        }
+    }
+
+    private void collectResources(ExecutableElement method, TypeElement annotation) {
+        Name annotationName = annotation.getQualifiedName();
+        if (annotationName.contentEquals(FILE_FROM_RESOURCE)) {
+            // resources are looked up relative to the package of the class
+            if (annotationValue(method, annotation) instanceof DeclaredType resourceClass)
+                nativeImageMetadata.addResourcePackage(
+                        processingEnv.getElementUtils().getPackageOf(resourceClass.asElement()));
+        } else if (annotationName.contentEquals(FILE_FROM_FOLDER) && hasAnnotation(method, TEMPLATE)) {
+            // template engines fall back to the classpath for templates missing in the file system
+            if (annotationValue(method, annotation) instanceof String folder)
+                nativeImageMetadata.addResourceFolder(folder);
+        }
+    }
+
+    private static boolean hasAnnotation(Element element, String annotationName) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotationName))
+                return true;
+        }
+        return false;
+    }
+
+    private void writeNativeImageMetadata() {
+        String id = processingEnv.getOptions().getOrDefault(NATIVE_IMAGE_ID_OPTION, DEFAULT_NATIVE_IMAGE_ID);
+        try {
+            nativeImageMetadata.write(id);
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to write native image metadata: " + e.getMessage());
+        }
+    }
+
+    private static boolean isAccessible(TypeElement type) {
+        for (Element element = type; element instanceof TypeElement; element = element.getEnclosingElement()) {
+            if (element.getModifiers().contains(Modifier.PRIVATE) ||
+                    ((TypeElement) element).getNestingKind() == NestingKind.LOCAL ||
+                    ((TypeElement) element).getNestingKind() == NestingKind.ANONYMOUS)
+                return false;
+        }
+        return true;
+    }
+
+    private static Object annotationValue(ExecutableElement method, TypeElement annotation) {
+        for (AnnotationMirror mirror : method.getAnnotationMirrors()) {
+            if (mirror.getAnnotationType().asElement().equals(annotation)) {
+                for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry :
+                        mirror.getElementValues().entrySet()) {
+                    if (entry.getKey().getSimpleName().contentEquals("value"))
+                        return entry.getValue().getValue();
+                }
+            }
+        }
+        return null;
+    }
+
+    private void generateRegistrar(TypeElement controller, List<Handler> handlers) {
+        String packageName = processingEnv.getElementUtils().getPackageOf(controller).getQualifiedName().toString();
+        String binaryName = processingEnv.getElementUtils().getBinaryName(controller).toString();
+        String registrarName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1)) +
+                REGISTRAR_SUFFIX;
+        String controllerName = controller.getQualifiedName().toString();
+        nativeImageMetadata.addInstantiatedClass(binaryName + REGISTRAR_SUFFIX);
+
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(
+                    packageName.isEmpty() ? registrarName : packageName + "." + registrarName, controller);
+            try (PrintWriter out = new PrintWriter(file.openWriter())) {
+                if (!packageName.isEmpty()) {
+                    out.println("package " + packageName + ";");
+                    out.println();
+                }
+                out.println("@javax.annotation.processing.Generated(\"" + getClass().getName() + "\")");
+                out.println("@SuppressWarnings({\"unchecked\", \"rawtypes\"})");
+                out.println("public final class " + registrarName +
+                        " implements com.gl.vertx.easyrouting.ControllerRegistrar {");
+                out.println("    private static final java.util.List<HandlerDescriptor> HANDLERS = java.util.List.of(");
+                for (int i = 0; i < handlers.size(); i++) {
+                    Handler handler = handlers.get(i);
+                    out.println("            new HandlerDescriptor(" +
+                            handler.annotation().getQualifiedName() + ".class, " +
+                            processingEnv.getElementUtils().getConstantExpression(handler.path()) + ", " +
+                            processingEnv.getElementUtils().getConstantExpression(handler.methodName()) + ", " +
+                            "new Class<?>[]{" + String.join(", ", parameterTypes(handler.method())) + "}, " +
+                            (handler.isInvokable() ? registrarName + "::" + invokerName(i) : "null") + ")" +
+                            (i < handlers.size() - 1 ? "," : ""));
+                }
+                out.println("    );");
+                out.println();
+                out.println("    @Override");
+                out.println("    public java.util.List<HandlerDescriptor> handlers() {");
+                out.println("        return HANDLERS;");
+                out.println("    }");
+
+                for (int i = 0; i < handlers.size(); i++) {
+                    if (handlers.get(i).isInvokable())
+                        generateInvoker(out, controllerName, handlers.get(i), invokerName(i));
+                }
+
+                out.println("}");
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to generate registrar for: " + controllerName + ": " + e.getMessage(), controller);
+        }
+    }
+
+    private void generateInvoker(PrintWriter out, String controllerName, Handler handler, String invokerName) {
+        ExecutableElement method = handler.method();
+        boolean isStatic = method.getModifiers().contains(Modifier.STATIC);
+        List<String> parameterTypes = parameterTypeNames(method);
+
+        out.println();
+        out.println("    private static Object " + invokerName + "(Object target, Object[] args) " +
+                "throws java.lang.reflect.InvocationTargetException {");
+        if (!isStatic)
+            out.println("        " + controllerName + " controller;");
+        for (int i = 0; i < parameterTypes.size(); i++)
+            out.println("        " + parameterTypes.get(i) + " arg" + i + ";");
+        out.println("        try {");
+        if (!isStatic)
+            out.println("            controller = (" + controllerName + ") java.util.Objects.requireNonNull(target);");
+        out.println("            if (args.length != " + parameterTypes.size() + ")");
+        out.println("                throw new IllegalArgumentException(\"Wrong number of arguments: \" + args.length);");
+        for (int i = 0; i < parameterTypes.size(); i++)
+            out.println("            arg" + i + " = (" + parameterTypes.get(i) + ") args[" + i + "];");
+        out.println("        } catch (ClassCastException | NullPointerException e) {");
+        out.println("            throw new IllegalArgumentException(\"Failed to invoke method: \" + e.getMessage(), e);");
+        out.println("        }");
+
+        StringJoiner args = new StringJoiner(", ");
+        for (int i = 0; i < parameterTypes.size(); i++)
+            args.add("arg" + i);
+        String call = (isStatic ? controllerName : "controller") + "." + method.getSimpleName() + "(" + args + ")";
+
+        out.println("        try {");
+        if (method.getReturnType().getKind() == TypeKind.VOID) {
+            out.println("            " + call + ";");
+            out.println("            return null;");
+        } else {
+            out.println("            return " + call + ";");
+        }
+        out.println("        } catch (Throwable e) {");
+        out.println("            throw new java.lang.reflect.InvocationTargetException(e);");
+        out.println("        }");
+        out.println("    }");
+    }
+
+    private List<String> parameterTypeNames(ExecutableElement method) {
+        List<String> result = new ArrayList<>();
+        for (VariableElement parameter : method.getParameters())
+            result.add(erasure(parameter.asType()));
+        return result;
+    }
+
+    private List<String> parameterTypes(ExecutableElement method) {
+        List<String> result = new ArrayList<>();
+        for (String typeName : parameterTypeNames(method))
+            result.add(typeName + ".class");
+        return result;
+    }
+
+    private String erasure(TypeMirror type) {
+        TypeMirror erasure = processingEnv.getTypeUtils().erasure(type);
+        // build names from elements, so type annotations don't get into the generated code
+        return switch (erasure.getKind()) {
+            case ARRAY -> erasure(((ArrayType) erasure).getComponentType()) + "[]";
+            case DECLARED -> ((TypeElement) ((DeclaredType) erasure).asElement()).getQualifiedName().toString();
+            default -> erasure.getKind().isPrimitive() ? erasure.getKind().name().toLowerCase() : erasure.toString();
+        };
+    }
+
+    private static String invokerName(int index) {
+        return "invoke" + index;
+    }
+
+    private record Handler(TypeElement annotation, String path, ExecutableElement method) {
+        String methodName() {
+            return method.getSimpleName().toString();
+        }
+
+        boolean isInvokable() {
+            return !method.getModifiers().contains(Modifier.PRIVATE);
+        }
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ *
+ * Copyright 2025 Gregory Ledenev (gregory.ledenev37@gmail.com)
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies
+ * of the Software, and to permit persons to whom the Software is furnished to do
+ * so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * /
+ */
+
+package com.gl.vertx.easyrouting.processor;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.*;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.*;
+
+/**
+ * Collects reflection metadata for GraalVM native images. EasyRouting scans controllers, modules and applications via
+ * reflection, and Jackson binds request bodies and results via reflection, so such classes must be registered for
+ * reflection to be available in a native image. Classpath resources served by EasyRouting must be included into an
+ * image too. The metadata is written as {@code reflect-config.json} and {@code resource-config.json} files under
+ * {@code META-INF/native-image}, where the {@code native-image} tool picks it up automatically.
+ */
+class NativeImageMetadata {
+    private static final List<String> SKIPPED_PACKAGES = List.of("java.", "javax.", "jdk.", "sun.", "io.vertx.",
+            "io.netty.", "com.fasterxml.jackson.", "com.gl.vertx.easyrouting.");
+
+    private final ProcessingEnvironment processingEnv;
+    private final Map<String, Set<String>> classes = new TreeMap<>();
+    private final Set<String> visitedTypes = new HashSet<>();
+    private final Set<String> resourcePatterns = new TreeSet<>();
+
+    NativeImageMetadata(ProcessingEnvironment processingEnv) {
+        this.processingEnv = processingEnv;
+    }
+
+    /**
+     * Registers a class that EasyRouting scans for handler methods, converters or RPC methods.
+     *
+     * @param controller the class
+     */
+    void addController(TypeElement controller) {
+        register(binaryName(controller), "allDeclaredMethods", "allDeclaredConstructors", "queryAllDeclaredMethods");
+    }
+
+    /**
+     * Registers a generated class that EasyRouting instantiates via reflection.
+     *
+     * @param className binary name of the class
+     */
+    void addInstantiatedClass(String className) {
+        register(className, "allDeclaredConstructors");
+    }
+
+    /**
+     * Registers resources of a package, e.g. assets served via {@code @FileFromResource}.
+     *
+     * @param packageElement the package
+     */
+    void addResourcePackage(PackageElement packageElement) {
+        String path = packageElement.getQualifiedName().toString().replace('.', '/');
+        resourcePatterns.add(path.isEmpty() ? "[^/]*" : "\\Q" + path + "/\\E[^/]*");
+    }
+
+    /**
+     * Registers resources of a folder, e.g. templates of {@code @Template} methods.
+     *
+     * @param folder the folder path relative to the classpath root
+     */
+    void addResourceFolder(String folder) {
+        String path = folder.replace('\\', '/');
+        while (path.startsWith("./"))
+            path = path.substring(2);
+        while (path.endsWith("/"))
+            path = path.substring(0, path.length() - 1);
+        if (!path.isEmpty() && !path.startsWith("/") && !path.contains(".."))
+            resourcePatterns.add("\\Q" + path + "/\\E[^/]*");
+    }
+
+    /**
+     * Registers parameter and return types of a method, so Jackson can convert values of these types.
+     *
+     * @param method the method
+     */
+    void addDataTypes(ExecutableElement method) {
+        for (VariableElement parameter : method.getParameters())
+            addDataType(parameter.asType());
+        addDataType(method.getReturnType());
+    }
+
+    private void addDataType(TypeMirror type) {
+        if (type.getKind() == TypeKind.ARRAY) {
+            addDataType(((ArrayType) type).getComponentType());
+        } else if (type.getKind() == TypeKind.DECLARED) {
+            DeclaredType declaredType = (DeclaredType) type;
+            for (TypeMirror typeArgument : declaredType.getTypeArguments())
+                addDataType(typeArgument);
+
+            TypeElement element = (TypeElement) declaredType.asElement();
+            String className = binaryName(element);
+            if (isSkipped(className) || !visitedTypes.add(className))
+                return;
+
+            register(className, "allDeclaredConstructors", "allDeclaredMethods", "allDeclaredFields");
+            for (VariableElement field : ElementFilter.fieldsIn(element.getEnclosedElements())) {
+                if (!field.getModifiers().contains(Modifier.STATIC))
+                    addDataType(field.asType());
+            }
+            addDataType(element.getSuperclass());
+        } else if (type.getKind() == TypeKind.TYPEVAR || type.getKind() == TypeKind.WILDCARD) {
+            addDataType(processingEnv.getTypeUtils().erasure(type));
+        }
+    }
+
+    private static boolean isSkipped(String className) {
+        for (String skippedPackage : SKIPPED_PACKAGES)
+            if (className.startsWith(skippedPackage))
+                return true;
+        return false;
+    }
+
+    private void register(String className, String... flags) {
+        classes.computeIfAbsent(className, k -> new TreeSet<>()).addAll(List.of(flags));
+    }
+
+    private String binaryName(TypeElement type) {
+        return processingEnv.getElementUtils().getBinaryName(type).toString();
+    }
+
+    boolean isEmpty() {
+        return classes.isEmpty() && resourcePatterns.isEmpty();
+    }
+
+    /**
+     * Writes collected metadata to {@code reflect-config.json} and {@code resource-config.json} files in
+     * {@code META-INF/native-image/<id>}.
+     *
+     * @param id unique id of the metadata, usually {@code <groupId>/<artifactId>} of a project
+     * @throws IOException if the metadata can't be written
+     */
+    void write(String id) throws IOException {
+        writeReflectConfig(id);
+        if (!resourcePatterns.isEmpty())
+            writeResourceConfig(id);
+    }
+
+    private void writeResourceConfig(String id) throws IOException {
+        FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+                "META-INF/native-image/" + id + "/resource-config.json");
+        try (PrintWriter out = new PrintWriter(file.openWriter())) {
+            out.println("{");
+            out.println("  \"resources\": {");
+            out.println("    \"includes\": [");
+            int index = 0;
+            for (String pattern : resourcePatterns) {
+                out.print("      {\"pattern\": \"" + pattern.replace("\\", "\\\\") + "\"}");
+                out.println(++index < resourcePatterns.size() ? "," : "");
+            }
+            out.println("    ]");
+            out.println("  }");
+            out.println("}");
+        }
+    }
+
+    private void writeReflectConfig(String id) throws IOException {
+        FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+                "META-INF/native-image/" + id + "/reflect-config.json");
+        try (PrintWriter out = new PrintWriter(file.openWriter())) {
+            out.println("[");
+            int index = 0;
+            for (Map.Entry<String, Set<String>> entry : classes.entrySet()) {
+                out.print("  {\"name\": \"" + entry.getKey() + "\"");
+                for (String flag : entry.getValue())
+                    out.print(", \"" + flag + "\": true");
+                out.println(++index < classes.size() ? "}," : "}");
+            }
+            out.println("]");
+        }
+    }
+}
@@ -39,6 +39,7 @@ import io.vertx.servicediscovery.types.HttpEndpoint;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
@@ -86,7 +87,9 @@ public class Application implements EasyRouting.AnnotatedConvertersHolder, EasyR
     private TemplateEngineFactory.Type templateEngineType = TemplateEngineFactory.Type.UNKNOWN;
     private BiConsumer<TemplateEngine, TemplateEngineFactory.Type> templateEngineConfigurator;
     private TemplateEngine templateEngine;
+    private JsonMapping jsonMapping = new JsonMapping();
     private boolean clustered;
+    private boolean precompressStaticFiles;
     private String nodeName;
     private ServiceDiscovery serviceDiscovery;
     private Record publishedRecord;
@@ -364,6 +367,18 @@ public class Application implements EasyRouting.AnnotatedConvertersHolder, EasyR
         return this;
     }
 
+    /**
+     * Makes the application create gzip variants of static files in folders of {@code @FileFromFolder} methods at
+     * startup. Variants are created in background, so original files are served until they are ready.
+     *
+     * @return the current {@code Application} instance, allowing for method chaining
+     * @see PrecompressedFiles
+     */
+    public Application precompressStaticFiles() {
+        this.precompressStaticFiles = true;
+        return this;
+    }
+
     public TemplateEngine getTemplateEngine() {
         return templateEngine;
     }
@@ -392,6 +407,24 @@ public class Application implements EasyRouting.AnnotatedConvertersHolder, EasyR
         return this;
     }
 
+    @Override
+    public JsonMapping getJsonMapping() {
+        return jsonMapping;
+    }
+
+    /**
+     * Specifies a {@code JsonMapping} used to convert request data and handler results to and from JSON. That allows
+     * using a custom {@code ObjectMapper}, e.g., with registered JavaTime or Blackbird modules
+     *
+     * @param jsonMapping JSON mapping
+     * @return the current {@code Application} instance, allowing for method chaining
+     */
+    public Application jsonMapping(JsonMapping jsonMapping) {
+        this.jsonMapping = Objects.requireNonNull(jsonMapping);
+
+        return this;
+    }
+
     private void removeShutdownHook() {
         if (shutdownHook != null) {
             try {
@@ -657,6 +690,14 @@ public class Application implements EasyRouting.AnnotatedConvertersHolder, EasyR
             for (ApplicationModule<?> applicationModule : applicationModules)
                 applicationModule.setupController(router);
 
+            if (precompressStaticFiles)
+                precompressStaticFiles();
+
+            if (templateEngine != null) {
+                for (Class<?> controllerClass : controllerClasses())
+                    TemplateCache.preload(vertx, templateEngine, controllerClass);
+            }
+
             EasyRouting.setupController(router, Application.this, Application.this);
             new RpcController(Application.this, Application.this).setupController(router);
 
@@ -665,6 +706,28 @@ public class Application implements EasyRouting.AnnotatedConvertersHolder, EasyR
             startedImpl();
         }
 
+        private List<Class<?>> controllerClasses() {
+            List<Class<?>> result = new ArrayList<>();
+            result.add(Application.this.getClass());
+            for (ApplicationModule<?> applicationModule : applicationModules) {
+                Object controller = applicationModule.getController();
+                result.add(controller != null ? controller.getClass() : applicationModule.getClass());
+            }
+            return result;
+        }
+
+        private void precompressStaticFiles() {
+            Set<Path> folders = new LinkedHashSet<>();
+            for (Class<?> controllerClass : controllerClasses())
+                folders.addAll(PrecompressedFiles.folders(controllerClass));
+
+            for (Path folder : folders) {
+                vertx.executeBlocking(() -> PrecompressedFiles.precompress(folder), false)
+                        .onSuccess(count -> logger.info("Precompressed " + count + " file(s) in: " + folder))
+                        .onFailure(ex -> logger.error("Failed to precompress files in: " + folder, ex));
+            }
+        }
+
         @Override
         public void stop() throws Exception {
             if (serviceDiscovery != null && publishedRecord != null) {
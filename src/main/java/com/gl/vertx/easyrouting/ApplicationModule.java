@@ -61,6 +61,11 @@ public abstract class ApplicationModule<T extends Application>
         return application.getServiceDiscovery();
     }
 
+    @Override
+    public JsonMapping getJsonMapping() {
+        return application.getJsonMapping();
+    }
+
     @Override
     public Record getPublishedRecord() {
         return application.getPublishedRecord();
@@ -0,0 +1,211 @@
+/*
+ *
+ * Copyright 2025 Gregory Ledenev (gregory.ledenev37@gmail.com)
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies
+ * of the Software, and to permit persons to whom the Software is furnished to do
+ * so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * /
+ */
+package com.gl.vertx.easyrouting;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.gl.vertx.easyrouting.Result.*;
+
+/**
+ * Negotiates content types of responses by the {@code Accept} header of requests. Candidates are content types of
+ * {@code @ConvertsTo} converters registered for a result type, content types of binary codecs for results sent as
+ * JSON, plus the content type of the built-in encoding of that type. Parsed {@code Accept} headers and decisions made
+ * for them are cached per distinct header value, so repeated requests cost a couple of hash lookups.
+ */
+final class ContentNegotiator {
+    static final String ACCEPT = "accept";
+
+    private static final int MAX_CACHED_HEADERS = 1024;
+    private static final String ANY = "*/*";
+    private static final String BUILT_IN = "";
+
+    private final EasyRouting.AnnotatedConverters annotatedConverters;
+    private final Map<String, AcceptHeader> acceptHeaders = new ConcurrentHashMap<>();
+
+    ContentNegotiator(EasyRouting.AnnotatedConverters annotatedConverters) {
+        this.annotatedConverters = annotatedConverters;
+    }
+
+    /**
+     * Discards cached decisions. Should be called when converters are registered.
+     */
+    void clear() {
+        acceptHeaders.clear();
+    }
+
+    /**
+     * Chooses a content type of a converter for a result type.
+     *
+     * @param accept     the value of the {@code Accept} header; can be {@code null}
+     * @param resultType the type of the result, as used for converter lookups
+     * @return a content type of a converter to use, or {@code null} if the result should be encoded by the built-in
+     * encoding
+     */
+    String negotiate(String accept, Class<?> resultType) {
+        if (accept == null || accept.isEmpty() || accept.equals(ANY))
+            return null;
+
+        AcceptHeader acceptHeader = acceptHeaders.get(accept);
+        if (acceptHeader == null) {
+            acceptHeader = AcceptHeader.parse(accept);
+            if (acceptHeaders.size() < MAX_CACHED_HEADERS)
+                acceptHeaders.put(accept, acceptHeader);
+        }
+
+        String result = acceptHeader.decisions.get(resultType);
+        if (result == null) {
+            result = decide(acceptHeader, resultType);
+            acceptHeader.decisions.put(resultType, result);
+        }
+
+        return result != BUILT_IN ? result : null;
+    }
+
+    private String decide(AcceptHeader acceptHeader, Class<?> resultType) {
+        String builtInContentType = builtInContentType(resultType);
+
+        Set<String> contentTypes = new LinkedHashSet<>(annotatedConverters.getConverterContentTypes(resultType));
+        // values sent as JSON can be sent in binary formats as well
+        if (CT_APPLICATION_JSON.equals(builtInContentType))
+            contentTypes.addAll(annotatedConverters.getCodecContentTypes());
+        if (contentTypes.isEmpty())
+            return BUILT_IN;
+
+        // the built-in encoding wins ties, so responses don't change unless clients ask for something else
+        String result = BUILT_IN;
+        double bestQuality = builtInContentType != null ? acceptHeader.quality(builtInContentType) : 0;
+        for (String contentType : contentTypes) {
+            double quality = acceptHeader.quality(contentType);
+            if (quality > bestQuality) {
+                bestQuality = quality;
+                result = contentType;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns a content type produced by the built-in encoding of a result type.
+     *
+     * @param resultType the type of the result
+     * @return a content type, or {@code null} if it depends on the result value
+     */
+    static String builtInContentType(Class<?> resultType) {
+        if (resultType == Object.class || resultType == Result.class)
+            return null;
+        else if (resultType == String.class)
+            return CT_TEXT_HTML;
+        else if (Number.class.isAssignableFrom(resultType) || resultType == Boolean.class || resultType.isPrimitive())
+            return CT_TEXT_PLAIN;
+        else if (Buffer.class.isAssignableFrom(resultType))
+            return CT_APPLICATION_OCTET_STREAM;
+        else if (resultType == JsonObject.class || resultType == JsonArray.class || resultType.isArray() ||
+                Map.class.isAssignableFrom(resultType) || Collection.class.isAssignableFrom(resultType))
+            return CT_APPLICATION_JSON;
+        else
+            return resultType.isEnum() ? CT_TEXT_PLAIN : CT_APPLICATION_JSON;
+    }
+
+    /**
+     * Parsed {@code Accept} header: media ranges ordered from the most specific to the least specific, so the first
+     * range matching a content type defines its quality.
+     */
+    private static final class AcceptHeader {
+        private final MediaRange[] mediaRanges;
+        private final Map<Class<?>, String> decisions = new ConcurrentHashMap<>();
+
+        private AcceptHeader(MediaRange[] mediaRanges) {
+            this.mediaRanges = mediaRanges;
+        }
+
+        static AcceptHeader parse(String accept) {
+            List<MediaRange> mediaRanges = new ArrayList<>();
+            for (String element : accept.split(",")) {
+                MediaRange mediaRange = MediaRange.parse(element);
+                if (mediaRange != null)
+                    mediaRanges.add(mediaRange);
+            }
+            mediaRanges.sort(Comparator.comparingInt(MediaRange::specificity).reversed());
+            return new AcceptHeader(mediaRanges.toArray(new MediaRange[0]));
+        }
+
+        double quality(String contentType) {
+            int semicolon = contentType.indexOf(';');
+            String mediaType = (semicolon >= 0 ? contentType.substring(0, semicolon) : contentType).trim();
+            for (MediaRange mediaRange : mediaRanges) {
+                if (mediaRange.matches(mediaType))
+                    return mediaRange.quality();
+            }
+            return 0;
+        }
+    }
+
+    /**
+     * A media range of an {@code Accept} header.
+     *
+     * @param mediaType   the media type in lower case; just the {@code type/} prefix for {@code type/*} ranges
+     * @param specificity 0 for {@code *}/{@code *}, 1 for {@code type/*} and 2 for {@code type/subtype}
+     * @param quality     the quality value
+     */
+    private record MediaRange(String mediaType, int specificity, double quality) {
+        static MediaRange parse(String element) {
+            String[] parts = element.split(";");
+            String mediaType = parts[0].trim().toLowerCase(Locale.ROOT);
+            int slash = mediaType.indexOf('/');
+            if (slash <= 0 || slash == mediaType.length() - 1)
+                return null;
+
+            double quality = 1;
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim();
+                if (parameter.startsWith("q=") || parameter.startsWith("Q=")) {
+                    try {
+                        quality = Double.parseDouble(parameter.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        quality = 0;
+                    }
+                }
+            }
+
+            int specificity = mediaType.equals(ANY) ? 0 : mediaType.endsWith("/*") ? 1 : 2;
+            return new MediaRange(specificity == 1 ? mediaType.substring(0, slash + 1) : mediaType, specificity, quality);
+        }
+
+        boolean matches(String contentType) {
+            return switch (specificity) {
+                case 0 -> true;
+                case 1 -> contentType.regionMatches(true, 0, mediaType, 0, mediaType.length());
+                default -> contentType.equalsIgnoreCase(mediaType);
+            };
+        }
+    }
+}
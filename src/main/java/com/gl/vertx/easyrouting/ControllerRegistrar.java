@@ -0,0 +1,93 @@
+/*
+ *
+ * Copyright 2025 Gregory Ledenev (gregory.ledenev37@gmail.com)
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies
+ * of the Software, and to permit persons to whom the Software is furnished to do
+ * so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * /
+ */
+
+package com.gl.vertx.easyrouting;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * Describes handler methods of a controller without the need to scan the controller class. Registrars are generated
+ * at compile time by the EasyRouting annotation processor ({@code vert.x-easyrouting-processor}) as
+ * {@code <ControllerClass>_EasyRoutingRegistrar} classes placed next to controller classes. When a registrar is
+ * available on the classpath, EasyRouting uses it to set up controller routes and to call handler methods directly
+ * instead of via reflection.
+ */
+public interface ControllerRegistrar {
+    /**
+     * Suffix of generated registrar class names.
+     */
+    String SUFFIX = "_EasyRoutingRegistrar";
+
+    /**
+     * Returns handler methods of a controller.
+     *
+     * @return a list of handler method descriptors
+     */
+    List<HandlerDescriptor> handlers();
+
+    /**
+     * Describes a handler method.
+     *
+     * @param annotationType HTTP method annotation type of the handler, e.g. {@code HttpMethods.GET.class}
+     * @param path           path of the handler
+     * @param methodName     name of the handler method
+     * @param parameterTypes parameter types of the handler method
+     * @param invoker        invoker that calls the handler method directly, or {@code null} if the method is not
+     *                       accessible for generated code and should be invoked via reflection
+     */
+    record HandlerDescriptor(Class<? extends Annotation> annotationType,
+                             String path,
+                             String methodName,
+                             Class<?>[] parameterTypes,
+                             MethodInvoker invoker) {
+        /**
+         * Resolves the handler method in a controller class.
+         *
+         * @param controllerClass the controller class
+         * @return the handler method
+         * @throws IllegalStateException if the controller class doesn't declare the handler method
+         */
+        public Method method(Class<?> controllerClass) {
+            try {
+                return controllerClass.getDeclaredMethod(methodName, parameterTypes);
+            } catch (NoSuchMethodException e) {
+                throw new IllegalStateException("Registrar is out of date for: " + controllerClass.getName(), e);
+            }
+        }
+    }
+
+    /**
+     * Finds a generated registrar for a controller class.
+     *
+     * @param controllerClass the controller class
+     * @return a registrar, or {@code null} if there is no registrar for the class
+     */
+    static ControllerRegistrar find(Class<?> controllerClass) {
+        return EasyRouting.findControllerRegistrar(controllerClass);
+    }
+}
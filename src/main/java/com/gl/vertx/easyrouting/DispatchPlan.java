@@ -0,0 +1,306 @@
+/*
+ *
+ * Copyright 2025 Gregory Ledenev (gregory.ledenev37@gmail.com)
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies
+ * of the Software, and to permit persons to whom the Software is furnished to do
+ * so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * /
+ */
+
+package com.gl.vertx.easyrouting;
+
+import com.gl.vertx.easyrouting.annotations.HttpMethods;
+import io.vertx.core.MultiMap;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A dispatch plan of a route. It holds candidate handler methods for a route annotation (or for RPC calls if there is
+ * no annotation) so that a handler method for a request can be chosen without scanning the target class.
+ */
+final class DispatchPlan {
+    private static final Overloads NO_OVERLOADS = new Overloads(Collections.emptyList());
+
+    private final Overloads handlerMethods;
+    private final Map<String, Overloads> rpcHandlerMethods;
+
+    private DispatchPlan(Overloads handlerMethods, Map<String, Overloads> rpcHandlerMethods) {
+        this.handlerMethods = handlerMethods;
+        this.rpcHandlerMethods = rpcHandlerMethods;
+    }
+
+    /**
+     * Creates a dispatch plan for a target class. Handlers of HTTP methods are taken from a generated
+     * {@link ControllerRegistrar} if there is one; otherwise the target class is scanned.
+     *
+     * @param targetClass the class containing handler methods
+     * @param annotation  annotation that handler methods must have; {@code null} to create a plan for RPC calls
+     * @return a dispatch plan
+     */
+    static DispatchPlan of(Class<?> targetClass, Annotation annotation) {
+        List<HandlerMethod> handlerMethods = new ArrayList<>();
+        Map<String, List<HandlerMethod>> rpcHandlerMethods = new HashMap<>();
+
+        // registrars list handlers of HTTP methods only
+        ControllerRegistrar registrar = annotation != null &&
+                annotation.annotationType().getEnclosingClass() == HttpMethods.class ?
+                ControllerRegistrar.find(targetClass) :
+                null;
+        if (registrar != null) {
+            for (ControllerRegistrar.HandlerDescriptor handler : registrar.handlers()) {
+                if (handler.annotationType() == annotation.annotationType()) {
+                    Method method = handler.method(targetClass);
+                    if (annotation.equals(method.getAnnotation(annotation.annotationType())))
+                        handlerMethods.add(new HandlerMethod(method, handler.invoker()));
+                }
+            }
+            return new DispatchPlan(new Overloads(handlerMethods), Collections.emptyMap());
+        }
+
+        for (Method method : targetClass.getDeclaredMethods()) {
+            if (annotation != null) {
+                Annotation methodAnnotation = method.getAnnotation(annotation.annotationType());
+                if (methodAnnotation != null && methodAnnotation.equals(annotation))
+                    handlerMethods.add(new HandlerMethod(method));
+            } else if (!method.isSynthetic()) {
+                HandlerMethod handlerMethod = new HandlerMethod(method);
+                handlerMethods.add(handlerMethod);
+                if (RpcContext.canExportMethod(method))
+                    rpcHandlerMethods.computeIfAbsent(method.getName(), k -> new ArrayList<>()).add(handlerMethod);
+            }
+        }
+
+        Map<String, Overloads> rpcOverloads = new HashMap<>();
+        rpcHandlerMethods.forEach((name, methods) -> rpcOverloads.put(name, new Overloads(methods)));
+
+        return new DispatchPlan(new Overloads(handlerMethods), Map.copyOf(rpcOverloads));
+    }
+
+    /**
+     * Returns candidate handler methods.
+     *
+     * @param rpcMethodName name of a called RPC method, or {@code null} if it is not an RPC call
+     * @return candidate handler methods
+     */
+    Overloads candidates(String rpcMethodName) {
+        if (rpcMethodName == null)
+            return handlerMethods;
+
+        return rpcHandlerMethods.getOrDefault(rpcMethodName, NO_OVERLOADS);
+    }
+
+    /**
+     * A set of handler methods that share a route or an RPC method name. If possible, the set is compiled into an index
+     * over the vocabulary of parameter names of all its methods: each method is described by bitmasks of its required,
+     * optional and implicit parameters, and a request is described by bitmasks of parameters present in the request
+     * and in form attributes. Resolved methods are cached per distinct request signature, so choosing an overload
+     * usually costs a single hash lookup.
+     */
+    static final class Overloads {
+        private static final int MAX_VOCABULARY_SIZE = Long.SIZE;
+        private static final int MAX_CACHED_SIGNATURES = 1024;
+        private static final int NO_MATCH = -1;
+
+        private final List<HandlerMethod> handlerMethods;
+        private final String[] vocabulary;
+        private final MethodSignature[] methodSignatures;
+        private final boolean hasFormHandlers;
+        private final Map<RequestSignature, Integer> resolvedSignatures = new ConcurrentHashMap<>();
+
+        Overloads(List<HandlerMethod> handlerMethods) {
+            this.handlerMethods = List.copyOf(handlerMethods);
+
+            Map<String, Integer> vocabularyIndex = new LinkedHashMap<>();
+            MethodSignature[] signatures = new MethodSignature[handlerMethods.size()];
+            boolean formHandlers = false;
+            for (int i = 0; signatures != null && i < signatures.length; i++) {
+                signatures[i] = MethodSignature.of(handlerMethods.get(i), vocabularyIndex);
+                if (signatures[i] == null)
+                    signatures = null;
+                else
+                    formHandlers |= signatures[i].formHandler();
+            }
+
+            this.methodSignatures = signatures;
+            this.vocabulary = vocabularyIndex.keySet().toArray(new String[0]);
+            this.hasFormHandlers = formHandlers;
+        }
+
+        /**
+         * Returns all handler methods in order of their resolution.
+         *
+         * @return a list of handler methods
+         */
+        List<HandlerMethod> handlerMethods() {
+            return handlerMethods;
+        }
+
+        /**
+         * Checks whether the handler methods are compiled into an index and can be resolved by
+         * {@link #resolve(MultiMap, MultiMap)}.
+         *
+         * @return {@code true} if the handler methods are indexed; {@code false} otherwise
+         */
+        boolean isIndexed() {
+            return methodSignatures != null;
+        }
+
+        /**
+         * Resolves a handler method for request parameters. Can be used for indexed handler methods only.
+         *
+         * @param params         case-insensitive request parameters
+         * @param formAttributes case-insensitive form attributes, or {@code null} if there are no form attributes
+         * @return a handler method or {@code null} if there is no matching handler method
+         */
+        HandlerMethod resolve(MultiMap params, MultiMap formAttributes) {
+            long present = mask(params);
+            // parameters that are not in the vocabulary can't be matched by any method
+            if (Long.bitCount(present) != params.size())
+                return null;
+
+            long form = hasFormHandlers && formAttributes != null ? mask(formAttributes) : 0L;
+
+            RequestSignature requestSignature = new RequestSignature(present, form);
+            Integer resolved = resolvedSignatures.get(requestSignature);
+            if (resolved == null) {
+                resolved = resolve(present, form);
+                if (resolvedSignatures.size() < MAX_CACHED_SIGNATURES)
+                    resolvedSignatures.put(requestSignature, resolved);
+            }
+
+            return resolved != NO_MATCH ? handlerMethods.get(resolved) : null;
+        }
+
+        private int resolve(long present, long form) {
+            int paramCount = Long.bitCount(present);
+            for (int i = 0; i < methodSignatures.length; i++) {
+                if (methodSignatures[i].matches(present, form, paramCount))
+                    return i;
+            }
+            return NO_MATCH;
+        }
+
+        private long mask(MultiMap params) {
+            long result = 0L;
+            if (!params.isEmpty()) {
+                for (int i = 0; i < vocabulary.length; i++) {
+                    if (params.contains(vocabulary[i]))
+                        result |= 1L << i;
+                }
+            }
+            return result;
+        }
+
+        private record RequestSignature(long present, long form) {
+        }
+
+        /**
+         * Describes parameters of a handler method as bitmasks over a vocabulary of parameter names.
+         *
+         * @param required        required {@code @Param} parameters
+         * @param optional        {@code @Param} parameters that have default values
+         * @param implicit        parameters bound by their names
+         * @param implicitContext parameters bound by their names that accept routing context or an exception
+         * @param otherCount      number of parameters that are not bound to request parameters
+         * @param parameterCount  total number of parameters
+         * @param formHandler     {@code true} if the method handles forms
+         */
+        private record MethodSignature(long required,
+                                       long optional,
+                                       long implicit,
+                                       long implicitContext,
+                                       int otherCount,
+                                       int parameterCount,
+                                       boolean formHandler) {
+            static MethodSignature of(HandlerMethod handlerMethod, Map<String, Integer> vocabularyIndex) {
+                // methods that decompose a body depend on the body, not just on request parameters
+                if (handlerMethod.isDecomposeBody())
+                    return null;
+
+                long required = 0L;
+                long optional = 0L;
+                long implicit = 0L;
+                long implicitContext = 0L;
+                int otherCount = 0;
+                long names = 0L;
+
+                for (HandlerMethod.ParameterInfo parameter : handlerMethod.parameters()) {
+                    HandlerMethod.ParameterKind kind = parameter.kind();
+                    if (kind != HandlerMethod.ParameterKind.PARAM && kind != HandlerMethod.ParameterKind.IMPLICIT) {
+                        otherCount++;
+                        continue;
+                    }
+
+                    Integer index = vocabularyIndex.get(parameter.lowerCaseName());
+                    if (index == null) {
+                        if (vocabularyIndex.size() == MAX_VOCABULARY_SIZE)
+                            return null;
+                        index = vocabularyIndex.size();
+                        vocabularyIndex.put(parameter.lowerCaseName(), index);
+                    }
+
+                    long bit = 1L << index;
+                    // parameters sharing a name would be counted twice
+                    if ((names & bit) != 0)
+                        return null;
+                    names |= bit;
+
+                    if (kind == HandlerMethod.ParameterKind.IMPLICIT) {
+                        implicit |= bit;
+                        if (parameter.isRoutingContext() || parameter.isThrowable())
+                            implicitContext |= bit;
+                    } else if (parameter.defaultValue() == null) {
+                        required |= bit;
+                    } else {
+                        optional |= bit;
+                    }
+                }
+
+                return new MethodSignature(required, optional, implicit, implicitContext, otherCount,
+                        handlerMethod.parameters().length, handlerMethod.isFormHandler());
+            }
+
+            /**
+             * Checks whether the method matches a request. That's a bitwise equivalent of
+             * {@link HandlerMethod#matches(MultiMap, MultiMap)}.
+             */
+            boolean matches(long present, long form, int paramCount) {
+                long formAttributes = formHandler ? form : 0L;
+                long absent = ~present;
+
+                int matchedParamCount = Long.bitCount(required & present) +
+                        Long.bitCount(optional) +
+                        Long.bitCount(implicit & present);
+                int optionalParamCount = Long.bitCount(optional & absent);
+                int otherParamCount = otherCount +
+                        Long.bitCount(required & absent & formAttributes) +
+                        Long.bitCount(optional & present & formAttributes) +
+                        Long.bitCount(implicit & absent & formAttributes) +
+                        Long.bitCount(implicitContext & absent & ~formAttributes);
+
+                return parameterCount == matchedParamCount + otherParamCount &&
+                        matchedParamCount == paramCount + optionalParamCount;
+            }
+        }
+    }
+}
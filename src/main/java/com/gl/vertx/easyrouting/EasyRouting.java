@@ -24,14 +24,12 @@ SOFTWARE.
 
 package com.gl.vertx.easyrouting;
 
-import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.gl.vertx.easyrouting.annotations.*;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
-import io.vertx.core.http.Cookie;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
@@ -45,6 +43,7 @@ import io.vertx.servicediscovery.ServiceDiscovery;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.*;
 import java.net.URI;
@@ -52,11 +51,11 @@ import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.text.MessageFormat;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import static com.gl.vertx.easyrouting.JWTUtil.ROLES;
-import static com.gl.vertx.easyrouting.Result.CONTENT_TYPE;
-import static com.gl.vertx.easyrouting.Result.CT_APPLICATION_JSON;
+import static com.gl.vertx.easyrouting.Result.*;
 import static com.gl.vertx.easyrouting.annotations.HttpMethods.*;
 
 /**
@@ -76,6 +75,12 @@ public class EasyRouting {
     private static final Logger logger = LoggerFactory.getLogger(EasyRouting.class);
     private static final String ERROR_HANDLING_ANNOTATED_METHOD = "Error handling annotated method: {0}({1}). Error: {2}";
     private static final String KEY_RPC_REQUEST = "rpcRequest";
+    private static final ClassValue<Optional<ControllerRegistrar>> CONTROLLER_REGISTRARS = new ClassValue<>() {
+        @Override
+        protected Optional<ControllerRegistrar> computeValue(Class<?> type) {
+            return loadControllerRegistrar(type);
+        }
+    };
 
     /**
      * Sets up HTTP request handlers for all supported HTTP methods (GET, POST, DELETE, PUT, PATCH, ANY) based on
@@ -141,14 +146,32 @@ public class EasyRouting {
         return JWTUtil.applyAuth(vertx, router, path, jwtSecret);
     }
 
+    /**
+     * Invalidates responses of all handler methods annotated with {@link Memoize}, so the methods are invoked again by
+     * subsequent requests.
+     */
+    public static void invalidateMemoized() {
+        MemoizedResponse.invalidateAll();
+    }
+
+    /**
+     * Invalidates responses of handler methods annotated with {@link Memoize} that belong to a group.
+     *
+     * @param group the group name, as specified by {@link Memoize#group()}
+     */
+    public static void invalidateMemoized(String group) {
+        MemoizedResponse.invalidate(group);
+    }
+
     private static void setupFailureHandler(Router router, Object target) {
+        StatusCodeRedirects statusCodeRedirects = new StatusCodeRedirects(target);
         router.route().failureHandler(ctx -> {
             Throwable failure = ctx.failure();
             if (failure instanceof HttpException httpEx) {
-                String redirect = redirect(httpEx.getStatusCode(), target);
-                if (redirect != null) {
+                String redirectPrefix = statusCodeRedirects.redirectPrefix(httpEx.getStatusCode());
+                if (redirectPrefix != null) {
                     String originalUri = ctx.request().uri();
-                    ctx.redirect(redirect + "?redirect=" + URLEncoder.encode(originalUri, StandardCharsets.UTF_8));
+                    ctx.redirect(redirectPrefix + URLEncoder.encode(originalUri, StandardCharsets.UTF_8));
                     return;
                 }
             }
@@ -156,39 +179,90 @@ public class EasyRouting {
         });
     }
 
-    private static String redirect(int statusCode, Object target) {
-        String result = null;
+    /**
+     * Redirects for HTTP status codes, compiled from {@code @HandlesStatusCode} methods of a controller when the
+     * controller is set up. Redirects are stored in a table indexed by status codes as prefixes of redirect URLs, so
+     * the failure handler only has to append an encoded original URI.
+     */
+    private static class StatusCodeRedirects {
+        private static final int MAX_STATUS_CODE = 599;
+        private static final String REDIRECT_PARAMETER = "?redirect=";
+
+        private final String[] redirectPrefixes = new String[MAX_STATUS_CODE + 1];
+
+        StatusCodeRedirects(Object target) {
+            for (Method method : target.getClass().getDeclaredMethods()) {
+                HandlesStatusCode statusCodeAnnotation = method.getAnnotation(HandlesStatusCode.class);
+                if (statusCodeAnnotation == null)
+                    continue;
+
+                int statusCode = statusCodeAnnotation.value();
+                if (statusCode < 0 || statusCode > MAX_STATUS_CODE) {
+                    LoggerFactory.getLogger(target.getClass()).warn("Invalid status code for method: " + method);
+                    continue;
+                }
 
-        for (Method method : target.getClass().getDeclaredMethods()) {
-            HandlesStatusCode statusCodeAnnotation = method.getAnnotation(HandlesStatusCode.class);
-            if (statusCodeAnnotation != null && statusCodeAnnotation.value() == statusCode) {
                 Annotation methodAnnotation = method.getAnnotation(GET.class);
                 if (methodAnnotation != null) {
                     try {
-                        result = getPathForAnnotation(methodAnnotation);
+                        redirectPrefixes[statusCode] = getPathForAnnotation(methodAnnotation) + REDIRECT_PARAMETER;
                     } catch (Exception e) {
                         LoggerFactory.getLogger(target.getClass()).error("Failed to get redirect path for method: " + methodAnnotation, e);
-                        break;
                     }
                 }
             }
         }
 
-        return result;
+        /**
+         * Returns a prefix of a redirect URL for a status code.
+         *
+         * @param statusCode the status code
+         * @return a prefix to append an encoded original URI to, or {@code null} if there is no redirect
+         */
+        String redirectPrefix(int statusCode) {
+            return statusCode >= 0 && statusCode <= MAX_STATUS_CODE ? redirectPrefixes[statusCode] : null;
+        }
     }
 
     private static List<Method> listHandlerMethods(Class<? extends Annotation> annotationClass, Object target) {
         List<Method> methods = new ArrayList<>();
-        for (Method method : target.getClass().getDeclaredMethods()) {
-            Annotation annotation = method.getAnnotation(annotationClass);
-            if (annotation != null) {
-                methods.add(method);
+        ControllerRegistrar registrar = findControllerRegistrar(target.getClass());
+        if (registrar != null) {
+            for (ControllerRegistrar.HandlerDescriptor handler : registrar.handlers()) {
+                if (handler.annotationType() == annotationClass)
+                    methods.add(handler.method(target.getClass()));
+            }
+        } else {
+            for (Method method : target.getClass().getDeclaredMethods()) {
+                Annotation annotation = method.getAnnotation(annotationClass);
+                if (annotation != null) {
+                    methods.add(method);
+                }
             }
         }
         sortMethods(methods, annotationClass);
         return methods;
     }
 
+    static ControllerRegistrar findControllerRegistrar(Class<?> controllerClass) {
+        return CONTROLLER_REGISTRARS.get(controllerClass).orElse(null);
+    }
+
+    private static Optional<ControllerRegistrar> loadControllerRegistrar(Class<?> controllerClass) {
+        try {
+            Class<?> registrarClass = Class.forName(controllerClass.getName() + ControllerRegistrar.SUFFIX,
+                    true, controllerClass.getClassLoader());
+            ControllerRegistrar result = (ControllerRegistrar) registrarClass.getDeclaredConstructor().newInstance();
+            logger.info("Using generated registrar for: " + controllerClass.getName());
+            return Optional.of(result);
+        } catch (ClassNotFoundException e) {
+            return Optional.empty();
+        } catch (Exception e) {
+            logger.warn("Failed to create generated registrar for: " + controllerClass.getName(), e);
+            return Optional.empty();
+        }
+    }
+
     private static void sortMethods(List<Method> methods, Class<? extends Annotation> annotationClass) {
         methods.sort((m1, m2) -> {
             try {
@@ -317,20 +391,10 @@ public class EasyRouting {
         }
     }
 
-    private static boolean checkRequiredRoles(RoutingContext ctx, Method method) {
-        boolean result = true;
-
-        String[] requiredRoles = requiredRoles(method);
-        if (requiredRoles.length > 0 && ctx.user() != null) {
-            JsonArray rolesArray = ctx.user().principal().getJsonArray(ROLES, new JsonArray());
-            for (String requiredRole : requiredRoles) {
-                if (!rolesArray.contains(requiredRole)) {
-                    result = false;
-                    break;
-                }
-            }
-        }
-        return result;
+    private static boolean checkRequiredRoles(RoutingContext ctx, HandlerMethod handlerMethod) {
+        long[] requiredRoles = handlerMethod.requiredRoleSet();
+        return requiredRoles.length == 0 || ctx.user() == null ||
+                RoleRegistry.containsAll(RoleRegistry.principalRoles(ctx), requiredRoles);
     }
 
     private static Handler<RoutingContext> createHandler(Annotation annotation, Object target, EasyRoutingContext easyRoutingContext) {
@@ -351,18 +415,37 @@ public class EasyRouting {
     }
 
     protected static class RoutingContextHandler implements Handler<RoutingContext> {
-        private static final String KEY_EXCEPTION_TO_HANDLE = "exceptionToHandle";
-        private static boolean warnedAboutMissingParameterNames = false;
+        private static final String KEY_EXCEPTION_TO_HANDLE = "easyRoutingExceptionToHandle";
         private final Annotation annotation;
         private final Object target;
         private final AnnotatedConverters annotatedConverters;
         private final EasyRoutingContext easyRoutingContext;
+        private final DispatchPlan dispatchPlan;
+        // plans of other annotations, e.g., the ones of status code handlers, are built once on first use
+        private final Map<Annotation, DispatchPlan> dispatchPlans = new ConcurrentHashMap<>();
+        private final ExceptionHandlers exceptionHandlers;
 
         public RoutingContextHandler(Annotation annotation, Object target, EasyRoutingContext easyRoutingContext) {
             this.annotation = annotation;
             this.target = target;
             this.annotatedConverters = setupAnnotatedConverters(target);
             this.easyRoutingContext = easyRoutingContext;
+            this.dispatchPlan = DispatchPlan.of(target.getClass(), annotation);
+            this.exceptionHandlers = ExceptionHandlers.of(target.getClass());
+            prepareRecordCodecs();
+        }
+
+        // record codecs are built while routes are set up rather than by first requests
+        private void prepareRecordCodecs() {
+            JsonMapping jsonMapping = getJsonMapping();
+            for (HandlerMethod handlerMethod : dispatchPlan.candidates(null).handlerMethods()) {
+                for (HandlerMethod.ParameterInfo parameter : handlerMethod.parameters()) {
+                    if (parameter.kind() == HandlerMethod.ParameterKind.BODY && parameter.type().isRecord())
+                        jsonMapping.reader(parameter.genericType());
+                }
+                if (handlerMethod.returnType().isRecord())
+                    jsonMapping.writer(handlerMethod.returnType());
+            }
         }
 
         private static void errorHandlerInvocation(Annotation annotation, Set<String> parameterNames, Throwable exception) {
@@ -372,25 +455,15 @@ public class EasyRouting {
                     exception));
         }
 
-        private static void decomposeJsonBody(RoutingContext ctx, Method method, MultiMap requestParameters) {
-            if (CT_APPLICATION_JSON.equalsIgnoreCase(ctx.request().headers().get(CONTENT_TYPE))) {
-                if (method.getAnnotation(DecomposeBody.class) != null) {
-                    JsonObject jsonBody = ctx.body().asJsonObject();
-                    for (Map.Entry<String, Object> entry : jsonBody) {
-                        requestParameters.add(entry.getKey(), entry.getValue().toString());
-                    }
-                }
-            }
+        static Object convertValue(Object value, Type to) {
+            return convertValue(value, to, JsonMapping.getDefault());
         }
 
-        static Object convertValue(Object value, Type to) {
+        static Object convertValue(Object value, Type to, JsonMapping jsonMapping) {
             Class<?> classTo;
-            Type elementType = null;
 
             if (to instanceof ParameterizedType parameterizedType) {
                 classTo = (Class<?>) parameterizedType.getRawType();
-                if (parameterizedType.getActualTypeArguments().length > 0)
-                    elementType = parameterizedType.getActualTypeArguments()[0];
             } else {
                 classTo = (Class<?>) to;
             }
@@ -404,9 +477,13 @@ public class EasyRouting {
             if (to == String.class) {
                 return value.toString();
             } else if (to == JsonObject.class) {
-                return value instanceof JsonObject jsonObject ? jsonObject : new JsonObject(value.toString());
+                if (value instanceof JsonObject jsonObject)
+                    return jsonObject;
+                return value instanceof Buffer buffer ? new JsonObject(buffer) : new JsonObject(value.toString());
             } else if (to == JsonArray.class) {
-                return value instanceof JsonArray jsonArray ? jsonArray : new JsonArray(value.toString());
+                if (value instanceof JsonArray jsonArray)
+                    return jsonArray;
+                return value instanceof Buffer buffer ? new JsonArray(buffer) : new JsonArray(value.toString());
             } else if (to == Integer.class || to == int.class) {
                 return Integer.parseInt(value.toString());
             } else if (to == Long.class || to == long.class) {
@@ -419,22 +496,17 @@ public class EasyRouting {
                 return value instanceof Buffer buffer ? buffer : Buffer.buffer(value.toString());
             } else if (!classTo.isPrimitive()) {
                 try {
-                    JsonMapper jsonMapper = new JsonMapper();
-                    if (value instanceof Map || value instanceof List || value instanceof JsonObject || value instanceof JsonArray) {
-                        if (elementType != null) {
-                            if (value instanceof List) {
-                                final Class<?> elementClass = (Class<?>) elementType;
-                                return ((List<?>) value).stream()
-                                        .map(v -> jsonMapper.convertValue(v, elementClass))
-                                        .collect(Collectors.toList());
-
-                            }
-                        } else {
-                            return jsonMapper.convertValue(value, classTo);
-                        }
-                    } else if (value instanceof String || value instanceof Buffer) {
-                        return jsonMapper.readValue(value.toString(), classTo);
-                    }
+                    if (value instanceof JsonObject jsonObject)
+                        value = jsonObject.getMap();
+                    else if (value instanceof JsonArray jsonArray)
+                        value = jsonArray.getList();
+
+                    if (value instanceof Map || value instanceof List)
+                        return jsonMapping.convertValue(value, to);
+                    else if (value instanceof Buffer buffer)
+                        return jsonMapping.readValue(buffer, to);
+                    else if (value instanceof String)
+                        return jsonMapping.readValue(value.toString(), to);
                 } catch (Exception e) {
                     throw new IllegalArgumentException("Failed to convert value to " + classTo.getName(), e);
                 }
@@ -444,25 +516,15 @@ public class EasyRouting {
             throw new IllegalArgumentException("Unsupported value type: " + to);
         }
 
-        private static HandlesException getAnnotation(Class<?> exceptionClass) {
-            return new HandlesException() {
-
-                @Override
-                public Class<? extends Annotation> annotationType() {
-                    return HandlesException.class;
-                }
-
-                @Override
-                public Class<?> value() {
-                    return exceptionClass;
-                }
-            };
-        }
-
         private EasyRoutingContext getEasyRoutingContext() {
             return target instanceof EasyRoutingContext context ? context : this.easyRoutingContext;
         }
 
+        JsonMapping getJsonMapping() {
+            EasyRoutingContext context = getEasyRoutingContext();
+            return context != null ? context.getJsonMapping() : JsonMapping.getDefault();
+        }
+
         private TemplateEngine getTemplateEngine() {
             EasyRoutingContext context = getEasyRoutingContext();
             return context != null ? context.getTemplateEngine() : null;
@@ -509,12 +571,23 @@ public class EasyRouting {
         }
 
         public boolean handle(RoutingContext ctx, Annotation anAnnotation, boolean ignoreMissingMethod) {
+            DispatchPlan plan;
+            if (Objects.equals(anAnnotation, annotation))
+                plan = dispatchPlan;
+            else if (anAnnotation == null)
+                plan = DispatchPlan.of(target.getClass(), null);
+            else
+                plan = dispatchPlans.computeIfAbsent(anAnnotation, a -> DispatchPlan.of(target.getClass(), a));
+            return handle(ctx, plan, anAnnotation, ignoreMissingMethod);
+        }
+
+        private boolean handle(RoutingContext ctx, DispatchPlan plan, Annotation anAnnotation, boolean ignoreMissingMethod) {
             boolean result = false;
             try {
                 obtainRpcContext(ctx, target);
 
-                MethodResult methodResult = getMethod(ctx, anAnnotation);
-                if (methodResult == null) {
+                HandlerMethod handlerMethod = getMethod(ctx, plan);
+                if (handlerMethod == null) {
                     if (! ignoreMissingMethod) {
                         logger.error("No handler method for: \"" + anAnnotation + "\" and parameters: " + ctx.request().params().names());
                         RpcContext rpcContext = RpcContext.getRpcContext(ctx);
@@ -524,13 +597,13 @@ public class EasyRouting {
                             ctx.response().setStatusCode(404).end();
                         }
                     }
-                } else if (checkRequiredRoles(ctx, methodResult.method)) {
+                } else if (checkRequiredRoles(ctx, handlerMethod)) {
                     result = true;
-                    if (methodResult.hasBodyParam) {
+                    if (handlerMethod.hasBodyParam()) {
                         Buffer bodyBuffer = ctx.body().buffer();
                         try {
-                            Object[] args = methodParameterValues(ctx, methodResult.method(), methodResult.parameterNames, methodResult.method().getGenericParameterTypes(), ctx.request().params(), bodyBuffer);
-                            invokeHandlerMethod(ctx, methodResult, args);
+                            Object[] args = methodParameterValues(ctx, handlerMethod, bodyBuffer);
+                            invokeHandlerMethod(ctx, handlerMethod, args);
                         } catch (Exception e) {
                             ctx.response()
                                     .setStatusCode(500)
@@ -539,8 +612,11 @@ public class EasyRouting {
                                     error("Error processing request body", e);
                         }
                     } else {
-                        Object[] args = methodParameterValues(ctx, methodResult.method(), methodResult.parameterNames, methodResult.method().getGenericParameterTypes(), ctx.request().params(), null);
-                        invokeHandlerMethod(ctx, methodResult, args);
+                        MemoizedResponse memoizedResponse = handlerMethod.memoizedResponse();
+                        if (memoizedResponse == null || !memoizedResponse.send(ctx)) {
+                            Object[] args = methodParameterValues(ctx, handlerMethod, null);
+                            invokeHandlerMethod(ctx, handlerMethod, args);
+                        }
                     }
                 } else {
                     throw new HttpException(403, "Access denied"); // exception to let failure handler handle it
@@ -552,14 +628,6 @@ public class EasyRouting {
             return result;
         }
 
-        private boolean isParametersAnnotationPresent(Method method, Class<? extends Annotation> annotation) {
-            for (Parameter parameter : method.getParameters()) {
-                if (parameter.getAnnotation(annotation) != null)
-                    return true;
-            }
-            return false;
-        }
-
         private void handleExceptions(RoutingContext ctx, Throwable ex) {
             if (ex instanceof RpcContext.RpcException rpcException) {
                 rpcException.getRpcResponse().handle(ctx);
@@ -583,13 +651,17 @@ public class EasyRouting {
         private boolean handleException(RoutingContext ctx, Throwable ex) {
             if (getExceptionToHandle(ctx) != null)
                 return false;
-            Throwable exceptionToHandle = ex instanceof InvocationTargetException itEx ? itEx.getTargetException() : ex;
+            Throwable exceptionToHandle = ex;
+            // invokeHandlerMethod() wraps invocation failures into plain RuntimeExceptions
+            if (exceptionToHandle.getClass() == RuntimeException.class &&
+                    exceptionToHandle.getCause() instanceof InvocationTargetException)
+                exceptionToHandle = exceptionToHandle.getCause();
+            if (exceptionToHandle instanceof InvocationTargetException itEx)
+                exceptionToHandle = itEx.getTargetException();
             setExceptionToHandle(ctx, exceptionToHandle);
-            Class<?> exceptionClass = exceptionToHandle.getClass();
-            while (exceptionClass != null) {
-                if (handle(ctx, getAnnotation(exceptionClass), true))
+            for (DispatchPlan plan : exceptionHandlers.plansFor(exceptionToHandle.getClass())) {
+                if (handle(ctx, plan, null, true))
                     return true;
-                exceptionClass = exceptionClass.getSuperclass();
             }
             return false;
         }
@@ -602,11 +674,16 @@ public class EasyRouting {
             return ctx.get(KEY_EXCEPTION_TO_HANDLE);
         }
 
-        private void invokeHandlerMethod(RoutingContext ctx, MethodResult handlerMethod, Object[] args) {
+        Throwable takeExceptionToHandle(RoutingContext ctx) {
+            Throwable result = getExceptionToHandle(ctx);
+            setExceptionToHandle(ctx, null);
+            return result;
+        }
+
+        private void invokeHandlerMethod(RoutingContext ctx, HandlerMethod handlerMethod, Object[] args) {
             try {
-                boolean needFetchArguments = getServiceDiscovery() != null &&
-                        isParametersAnnotationPresent(handlerMethod.method(), NodeURI.class);
-                if (isBlockingAnnotationPresent(handlerMethod) && !needFetchArguments) {
+                boolean needFetchArguments = getServiceDiscovery() != null && handlerMethod.hasNodeURIParam();
+                if (handlerMethod.isBlocking() && !needFetchArguments) {
                     invokeHandlerMethodBlocking(ctx, handlerMethod, args);
                 } else if (needFetchArguments) {
                     invokeHandlerMethodFetchArguments(ctx, handlerMethod, args);
@@ -623,15 +700,15 @@ public class EasyRouting {
             }
         }
 
-        private void invokeHandlerMethodFetchArguments(RoutingContext ctx, MethodResult handlerMethod, Object[] args) {
+        private void invokeHandlerMethodFetchArguments(RoutingContext ctx, HandlerMethod handlerMethod, Object[] args) {
             List<Future<Record>> futures = new ArrayList<>();
-            int i = 0;
-            for (Parameter parameter : handlerMethod.method().getParameters()) {
-                NodeURI annotation = parameter.getAnnotation(NodeURI.class);
+            HandlerMethod.ParameterInfo[] parameters = handlerMethod.parameters();
+            for (int i = 0; i < parameters.length; i++) {
+                String nodeName = parameters[i].annotationValue();
                 ServiceDiscovery serviceDiscovery = getServiceDiscovery();
-                if (annotation != null && serviceDiscovery != null) {
+                if (parameters[i].kind() == HandlerMethod.ParameterKind.NODE_URI && serviceDiscovery != null) {
                     int finalI = i;
-                    futures.add(serviceDiscovery.getRecord(new JsonObject().put("name", annotation.value())).onComplete((record, ex) -> {
+                    futures.add(serviceDiscovery.getRecord(new JsonObject().put("name", nodeName)).onComplete((record, ex) -> {
                         if (ex == null && record != null) {
                             // disallow getting 'this' record to avoid circular processing
                             Record publishedRecord = getPublishedRecord();
@@ -640,16 +717,15 @@ public class EasyRouting {
                                 args[finalI] = URI.create(location.getString("endpoint"));
                             }
                         } else {
-                            logger.error("Failed to get cluster node endpoint for: " + annotation.value(), ex);
+                            logger.error("Failed to get cluster node endpoint for: " + nodeName, ex);
                         }
                     }));
                 }
-                i++;
             }
 
             Future.all(futures).onComplete((aCompositeFuture, aThrowable) -> {
                 try {
-                    if (isBlockingAnnotationPresent(handlerMethod)) {
+                    if (handlerMethod.isBlocking()) {
                         invokeHandlerMethodBlocking(ctx, handlerMethod, args);
                     } else {
                         invokeHandlerMethodNonBlocking(ctx, handlerMethod, args);
@@ -660,27 +736,15 @@ public class EasyRouting {
             });
         }
 
-        private static boolean isBlockingAnnotationPresent(MethodResult handlerMethod) {
-            Method method = handlerMethod.method();
-            if (method.isAnnotationPresent(Blocking.class))
-                return true;
-
-            for (Annotation annotation : method.getAnnotations())
-                if (annotation.annotationType().isAnnotationPresent(Blocking.class))
-                    return true;
-
-            return false;
-        }
-
-        private void invokeHandlerMethodNonBlocking(RoutingContext ctx, MethodResult handlerMethod, Object[] args) throws IllegalAccessException, InvocationTargetException {
-            Object result = handlerMethod.method().invoke(target, args);
+        private void invokeHandlerMethodNonBlocking(RoutingContext ctx, HandlerMethod handlerMethod, Object[] args) throws IllegalAccessException, InvocationTargetException {
+            Object result = handlerMethod.invoke(target, args);
             if (!ctx.response().ended())
-                processHandlerResult(handlerMethod.method(), ctx, result);
+                processHandlerResult(handlerMethod, ctx, result);
         }
 
-        private void invokeHandlerMethodBlocking(RoutingContext ctx, MethodResult handlerMethod, Object[] args) {
+        private void invokeHandlerMethodBlocking(RoutingContext ctx, HandlerMethod handlerMethod, Object[] args) {
             Future<Object> future = ctx.vertx().executeBlocking(() -> {
-                Retry retry = handlerMethod.method().getAnnotation(Retry.class);
+                Retry retry = handlerMethod.retry();
 
                 Set<Class<?>> excludeExceptions = retry != null ?
                         Set.of(retry.excludeExceptions()) : Collections.emptySet();
@@ -689,7 +753,7 @@ public class EasyRouting {
 
                 for (int i = 0; i < tryCount; i++) {
                     try {
-                        return handlerMethod.method().invoke(target, args);
+                        return handlerMethod.invoke(target, args);
                     } catch (Exception ex) {
                         Class<?> exceptionClass = ex instanceof InvocationTargetException ite ?
                                 ite.getTargetException().getClass() : ex.getClass();
@@ -712,190 +776,44 @@ public class EasyRouting {
             });
             future.onComplete((result, e) -> {
                 if (e == null) {
-                    processHandlerResult(handlerMethod.method(), ctx, result);
+                    processHandlerResult(handlerMethod, ctx, result);
                 } else {
                     handleExceptions(ctx, e);
                 }
             });
         }
 
-        private MethodResult getMethod(RoutingContext ctx, Annotation annotation) {
-            Method[] declaredMethods = target.getClass().getDeclaredMethods();
-
-            MultiMap lowercaseParams = MultiMap.caseInsensitiveMultiMap();
-            lowercaseParams.addAll(ctx.request().params());
+        private HandlerMethod getMethod(RoutingContext ctx, DispatchPlan plan) {
+            RequestArguments arguments = RequestArguments.of(ctx);
+            RpcContext rpcContext = arguments.rpcContext();
+            String methodName = rpcContext != null ? rpcContext.rpcRequest.getMethodName() : null;
 
+            // request parameters and form attributes are case-insensitive already, so they can be used as is
             MultiMap formAttributes = ctx.request().method() == HttpMethod.POST ? ctx.request().formAttributes() : null;
-            MultiMap lowercaseFormAttributes = formAttributes != null ? MultiMap.caseInsensitiveMultiMap() : null;
-            if (lowercaseFormAttributes != null)
-                lowercaseFormAttributes.addAll(formAttributes);
-
-            String methodName = null;
-            RpcContext rpcContext = RpcContext.getRpcContext(ctx);
-            if (rpcContext != null) {
-                methodName = rpcContext.rpcRequest.getMethodName();
-                for (Map.Entry<String, Object> entry : rpcContext.rpcRequest.getArguments().entrySet())
-                    lowercaseParams.add(entry.getKey(), ""); // put empty value just to populate parameter name
-            }
 
-            for (Method method : declaredMethods) {
-                if (methodName != null && (!RpcContext.canExportMethod(method) || !method.getName().equals(methodName)))
-                    continue;
+            DispatchPlan.Overloads candidates = plan.candidates(methodName);
+            if (candidates.isIndexed())
+                return candidates.resolve(arguments.parameterNames(false), formAttributes);
 
-                Annotation methodAnnotation = annotation != null ? method.getAnnotation(annotation.annotationType()) : null;
-                if (annotation == null || (methodAnnotation != null && methodAnnotation.equals(annotation))) {
-                    MethodResult methodResult = getMethod(ctx, method, lowercaseParams, lowercaseFormAttributes);
-                    if (methodResult != null)
-                        return methodResult;
-                }
+            for (HandlerMethod handlerMethod : candidates.handlerMethods()) {
+                if (handlerMethod.matches(arguments.parameterNames(handlerMethod.isDecomposeBody()), formAttributes))
+                    return handlerMethod;
             }
 
             return null;
         }
 
-        private MethodResult getMethod(RoutingContext ctx, Method method, MultiMap params, MultiMap formAttributes) {
-            List<String> paramNames = new ArrayList<>();
-            int matchedParamCount = 0;
-            int optionalParamCount = 0;
-            int otherParamCount = 0;
-            boolean hasBodyParam = false;
-            boolean isFormHandler = method.getAnnotation(Form.class) != null;
-
-            decomposeJsonBody(ctx, method, params);
-
-            for (Parameter parameter : method.getParameters()) {
-
-                if (parameter.getAnnotation(Param.class) != null) {
-                    Param param = parameter.getAnnotation(Param.class);
-                    paramNames.add(param.value());
-                    if (param.defaultValue().equals(Param.UNSPECIFIED)) {
-                        String lowerCaseParam = param.value().toLowerCase();
-                        if (params.get(lowerCaseParam) != null)
-                            matchedParamCount++;
-                        else if (isFormHandler && formAttributes != null && formAttributes.get(lowerCaseParam) != null)
-                            otherParamCount++;
-                    } else {
-                        matchedParamCount++;
-                        String lowerCaseParam = param.value().toLowerCase();
-                        if (params.get(lowerCaseParam) == null)
-                            optionalParamCount++;
-                        else if (isFormHandler && formAttributes != null && formAttributes.get(lowerCaseParam) != null)
-                            otherParamCount++;
-                    }
-                } else if (parameter.getAnnotation(BodyParam.class) != null) {
-                    BodyParam param = parameter.getAnnotation(BodyParam.class);
-                    otherParamCount++;
-                    hasBodyParam = true;
-                    paramNames.add(param.value());
-                } else if (parameter.getAnnotation(PathParam.class) != null) {
-                    PathParam param = parameter.getAnnotation(PathParam.class);
-                    otherParamCount++;
-                    paramNames.add(param.value());
-                } else if (parameter.getAnnotation(UploadsParam.class) != null) {
-                    otherParamCount++;
-                    paramNames.add("uploads");
-                } else if (parameter.getAnnotation(ContextParam.class) != null) {
-                    ContextParam param = parameter.getAnnotation(ContextParam.class);
-                    otherParamCount++;
-                    paramNames.add(param.value());
-                } else if (parameter.getAnnotation(CookieParam.class) != null) {
-                    otherParamCount++;
-                    paramNames.add(parameter.getName());
-                } else if (parameter.getAnnotation(HeaderParam.class) != null) {
-                    otherParamCount++;
-                    paramNames.add(parameter.getName());
-                } else if (parameter.getAnnotation(TemplateModelParam.class) != null || parameter.getType().equals(TemplateModel.class)) {
-                    otherParamCount++;
-                    paramNames.add(parameter.getName());
-                } else if (parameter.getAnnotation(NodeURI.class) != null) {
-                    otherParamCount++;
-                    paramNames.add(parameter.getName());
-                } else {
-                    if (parameter.getName().matches("arg\\d+") && !warnedAboutMissingParameterNames) {
-                        warnedAboutMissingParameterNames = true;
-                        logger.warn("Parameter names are missing. Either use @Param annotations or compile project with -parameters option");
-                    }
-                    paramNames.add(parameter.getName());
-                    String lowerCaseParam = parameter.getName().toLowerCase();
-                    if (params.get(lowerCaseParam) != null)
-                        matchedParamCount++;
-                    else if (isFormHandler && formAttributes != null && formAttributes.get(lowerCaseParam) != null)
-                        otherParamCount++;
-                    else if (parameter.getType().equals(RoutingContext.class))
-                        otherParamCount++;
-                    else if (Throwable.class.isAssignableFrom(parameter.getType()))
-                        otherParamCount++;
-                }
-            }
-
-            int totalParamCount = matchedParamCount + otherParamCount;
-            if (method.getParameterCount() == totalParamCount && matchedParamCount == params.size() + optionalParamCount) {
-                return new MethodResult(method, paramNames.toArray(new String[0]), hasBodyParam);
-            }
-            return null;
+        private Object[] methodParameterValues(RoutingContext ctx, HandlerMethod handlerMethod, Object body) {
+            return handlerMethod.bindArguments(new ParameterBinder.BindingRequest(this, ctx, RequestArguments.of(ctx),
+                    handlerMethod.isDecomposeBody(), body));
         }
 
-        private Object[] methodParameterValues(RoutingContext ctx,
-                                               Method method,
-                                               String[] parameterNames,
-                                               Type[] parameterTypes,
-                                               MultiMap requestParameters,
-                                               Object body) {
-            if (parameterTypes.length == 1 && parameterTypes[0].equals(RoutingContext.class)) {
-                // If the method has only one parameter of type RoutingContext, return it directly
-                return new Object[]{ctx};
-            }
-
-            List<Object> result = new ArrayList<>();
-
-            decomposeJsonBody(ctx, method, requestParameters);
-
-            RpcContext rpcContext = RpcContext.getRpcContext(ctx);
-
-            Parameter[] parameters = method.getParameters();
-
-            for (int i = 0; i < parameterNames.length; i++) {
-                Parameter parameter = parameters[i];
-
-                if (parameter.getAnnotation(BodyParam.class) != null) {
-                    result.add(convertBody(ctx.request().getHeader(CONTENT_TYPE), parameterTypes[i], body));
-                } else if (parameter.getAnnotation(UploadsParam.class) != null) {
-                    result.add(ctx.fileUploads());
-                } else if (parameter.getAnnotation(PathParam.class) != null) {
-                    result.add(ctx.normalizedPath());
-                } else if (parameter.getAnnotation(CookieParam.class) != null) {
-                    Cookie cookie = ctx.request().getCookie(parameter.getAnnotation(CookieParam.class).value());
-                    result.add(cookie != null ? cookie.getValue() : null);
-                } else if (parameter.getAnnotation(HeaderParam.class) != null) {
-                    result.add(ctx.request().getHeader(parameter.getAnnotation(HeaderParam.class).value()));
-                } else if (parameter.getAnnotation(TemplateModelParam.class) != null || parameter.getType().equals(TemplateModel.class)) {
-                    result.add(new TemplateModel(ctx));
-                } else if (parameter.getAnnotation(NodeURI.class) != null) {
-                    result.add(null); // add null as placeholder; we will get actual values later
-                } else if (parameter.getType().equals(RoutingContext.class) || parameter.getAnnotation(ContextParam.class) != null) {
-                    result.add(ctx);
-                } else if (Throwable.class.isAssignableFrom(parameter.getType())) {
-                    result.add(getExceptionToHandle(ctx));
-                    setExceptionToHandle(ctx, null);
-                } else {
-                    Param param = parameter.getAnnotation(Param.class);
-                    result.add(convertValue(rpcContext,
-                            parameterNames[i],
-                            parameterTypes[i],
-                            requestParameters,
-                            param != null && !param.defaultValue().equals(Param.UNSPECIFIED) ? param.defaultValue() : null));
-                }
-            }
-
-            return result.toArray(new Object[0]);
-        }
-
-        private Object convertBody(String contentType, Type parameterType, Object body) {
+        Object convertBody(String contentType, Type parameterType, Object body) {
             if (body == null) {
                 return null;
             }
             Object convertedBody = convertFrom(contentType, parameterType, body);
-            return convertValue(convertedBody, parameterType);
+            return convertValue(convertedBody, parameterType, getJsonMapping());
         }
 
         private Object convertFrom(String contentType, Type type, Object value) {
@@ -905,26 +823,19 @@ public class EasyRouting {
             return result;
         }
 
-        private Object convertValue(RpcContext rpcContext, String parameterName, Type parameterType, MultiMap parameters, String defaultValue) {
-            Object value = rpcContext != null ? rpcContext.getRpcRequest().getArguments().get(parameterName) : null;
-            if (value == null)
-                value = parameters.get(parameterName);
-            return convertValue(value != null ? value : defaultValue, parameterType);
-        }
-
         @SuppressWarnings({"rawtypes", "unchecked"})
-        private void processHandlerResult(Method method, RoutingContext ctx, Object result) {
+        private void processHandlerResult(HandlerMethod handlerMethod, RoutingContext ctx, Object result) {
             try {
                 if (result instanceof Future future) {
                     future.onComplete((futureResult, ex) -> {
                         if (ex == null) {
-                            processHandlerResultNotFuture(method, ctx, futureResult);
+                            processHandlerResultNotFuture(handlerMethod, ctx, futureResult);
                         } else {
                             handleExceptions(ctx, ex);
                         }
                     });
                 } else {
-                    processHandlerResultNotFuture(method, ctx, result);
+                    processHandlerResultNotFuture(handlerMethod, ctx, result);
                 }
             } catch (Exception ex) {
                 handleExceptions(ctx, ex);
@@ -932,20 +843,35 @@ public class EasyRouting {
         }
 
         @SuppressWarnings("unchecked")
-        private void processHandlerResultNotFuture(Method method, RoutingContext ctx, Object result) {
+        private void processHandlerResultNotFuture(HandlerMethod handlerMethod, RoutingContext ctx, Object result) {
             if (ctx.response().ended())
                 return;
 
             Result<Object> handlerResult = result instanceof Result<?> ? (Result<Object>) result : new Result<>(result);
-            handlerResult.setup(target instanceof EasyRoutingContext ? (EasyRoutingContext) target : null, method);
+            handlerResult.setup(target instanceof EasyRoutingContext ? (EasyRoutingContext) target : null, handlerMethod);
+
+            // wrapped results like Result<T> or Future<T> are converted by their values
+            Type resultType = handlerMethod.resultType();
+            if (resultType == null && handlerResult.getResult() != null)
+                resultType = handlerResult.getResult().getClass();
+
+            String contentType = handlerResult.getHeaders().get(CONTENT_TYPE);
+            if (contentType == null && handlerResult.getResult() != null && RpcContext.getRpcContext(ctx) == null) {
+                contentType = annotatedConverters.negotiateContentType(ctx.request().getHeader(ContentNegotiator.ACCEPT),
+                        resultType);
+                if (contentType != null)
+                    handlerResult.putHeader(CONTENT_TYPE, contentType);
+            }
 
-            Object convertedResult = convertTo(target, handlerResult.getResult(), method.getGenericReturnType(), (String) handlerResult.getHeaders().get(CONTENT_TYPE));
+            Object convertedResult = convertTo(target, handlerResult.getResult(), resultType, contentType);
             if (handlerResult.getResult() != convertedResult) {
                 handlerResult.setResult(convertedResult);
                 handlerResult.setResultClass(convertedResult.getClass());
             }
 
-            handlerResult.handle(ctx);
+            MemoizedResponse memoizedResponse = handlerMethod.memoizedResponse();
+            if (memoizedResponse == null || !memoizedResponse.memoize(ctx, handlerResult))
+                handlerResult.handle(ctx);
         }
 
         private Object convertTo(Object target, Object result, Type type, String contentType) {
@@ -956,15 +882,12 @@ public class EasyRouting {
 
             return convertedResult;
         }
-
-        record MethodResult(Method method, String[] parameterNames, boolean hasBodyParam) {
-        }
     }
 
     /**
      * Manages annotated converter methods for content type conversions. Provides caching and execution of converter
      * methods marked with {@link ConvertsTo} and {@link ConvertsFrom} annotations. Thread-safe implementation using
-     * synchronized collections.
+     * concurrent maps keyed by class and content type.
      * <p>
      * This class maintains a thread-safe cache of converter methods and provides functionality to:
      * <ul>
@@ -977,7 +900,20 @@ public class EasyRouting {
         public static final String KEY_DELIMITER_TO = "->";
         public static final String KEY_DELIMITER_FROM = "<-";
 
-        private final Map<String, Method> convertersCache = Collections.synchronizedMap(new HashMap<>());
+        // class -> content type -> converter method; misses are answered by the same lock-free lookups as hits
+        private final Map<Class<?>, Map<String, Method>> convertersTo = new ConcurrentHashMap<>();
+        private final Map<Class<?>, Map<String, Method>> convertersFrom = new ConcurrentHashMap<>();
+        private final Map<Method, MethodInvoker> converterInvokers = new ConcurrentHashMap<>();
+        private final Map<String, JsonMapping> codecs = new ConcurrentHashMap<>(Map.of(
+                CT_APPLICATION_CBOR, DefaultCodecs.CBOR,
+                CT_APPLICATION_SMILE, DefaultCodecs.SMILE));
+        private final ContentNegotiator contentNegotiator = new ContentNegotiator(this);
+
+        // binary mappings are shared by all instances
+        private static final class DefaultCodecs {
+            static final JsonMapping CBOR = JsonMapping.cbor();
+            static final JsonMapping SMILE = JsonMapping.smile();
+        }
 
         private static boolean checkMethodSignature(Method method) {
             boolean result = Modifier.isStatic(method.getModifiers()) &&
@@ -1022,8 +958,6 @@ public class EasyRouting {
          * @param target the object to scan for converter methods
          */
         public void collectConverters(Object target) {
-            Map<String, Method> result = new HashMap<>();
-
             for (Method method : target.getClass().getDeclaredMethods()) {
                 var convertsTo = method.getAnnotation(ConvertsTo.class);
                 var convertsFrom = method.getAnnotation(ConvertsFrom.class);
@@ -1032,22 +966,29 @@ public class EasyRouting {
                     if (!checkMethodSignature(method))
                         continue;
 
+                    converterInvokers.put(method, MethodInvoker.of(method));
                     if (convertsTo != null)
-                        result.put(keyFor(convertsTo, method.getParameterTypes()[0]), method);
+                        register(convertersTo, method.getParameterTypes()[0], convertsTo.value(), method);
                     else
-                        result.put(keyFor(convertsFrom, method.getReturnType()), method);
+                        register(convertersFrom, method.getReturnType(), convertsFrom.value(), method);
                 }
             }
 
-            convertersCache.putAll(result);
+            contentNegotiator.clear();
         }
 
-        private String keyFor(ConvertsTo converter, Class<?> type) {
-            return MessageFormat.format("\"{0}\"{1}{2}", converter.value(), KEY_DELIMITER_TO, type.getName());
+        private static void register(Map<Class<?>, Map<String, Method>> converters, Class<?> type, String contentType,
+                                     Method method) {
+            converters.computeIfAbsent(type, k -> new ConcurrentHashMap<>()).put(contentType, method);
         }
 
-        private String keyFor(ConvertsFrom converter, Class<?> type) {
-            return MessageFormat.format("\"{0}\"{1}{2}", converter.value(), KEY_DELIMITER_FROM, type.getName());
+        private static Method lookup(Map<Class<?>, Map<String, Method>> converters, Class<?> type, String contentType) {
+            Map<String, Method> methods = converters.get(type);
+            return methods != null ? methods.get(contentType) : null;
+        }
+
+        private static String keyFor(String contentType, String delimiter, Class<?> type) {
+            return "\"" + contentType + "\"" + delimiter + type.getName();
         }
 
         /**
@@ -1071,9 +1012,14 @@ public class EasyRouting {
          * @return a string containing all registered converters, sorted by converter key, one per line
          */
         public String toString(boolean shortenClassNames) {
+            Map<String, Method> converters = new TreeMap<>();
+            convertersTo.forEach((type, methods) -> methods.forEach((contentType, method) ->
+                    converters.put(keyFor(contentType, KEY_DELIMITER_TO, type), method)));
+            convertersFrom.forEach((type, methods) -> methods.forEach((contentType, method) ->
+                    converters.put(keyFor(contentType, KEY_DELIMITER_FROM, type), method)));
+
             return "{\n" +
-                    convertersCache.entrySet().stream()
-                            .sorted(Map.Entry.comparingByKey())
+                    converters.entrySet().stream()
                             .map(e -> "  " +
                                     keyToString(e.getKey(), shortenClassNames) +
                                     " = " +
@@ -1090,17 +1036,7 @@ public class EasyRouting {
          * @return converter method if found, null otherwise
          */
         public Method getConverter(Class<?> from, String to) {
-            return convertersCache.get(keyFor(new ConvertsTo() {
-                @Override
-                public Class<? extends Annotation> annotationType() {
-                    return ConvertsTo.class;
-                }
-
-                @Override
-                public String value() {
-                    return to;
-                }
-            }, from));
+            return lookup(convertersTo, from, to);
         }
 
         /**
@@ -1111,17 +1047,88 @@ public class EasyRouting {
          * @return converter method if found, null otherwise
          */
         public Method getConverter(String from, Class<?> to) {
-            return convertersCache.get(keyFor(new ConvertsFrom() {
-                @Override
-                public Class<? extends Annotation> annotationType() {
-                    return ConvertsFrom.class;
-                }
+            return lookup(convertersFrom, to, from);
+        }
 
-                @Override
-                public String value() {
-                    return from;
-                }
-            }, to));
+        /**
+         * Registers a codec for a content type. Codecs decode bodies and encode results of their content type if there
+         * is no {@code @ConvertsTo} or {@code @ConvertsFrom} converter for a value type. Codecs for
+         * {@value Result#CT_APPLICATION_CBOR} and {@value Result#CT_APPLICATION_SMILE} are registered by default; other
+         * formats, e.g., MessagePack, can be added with a mapping that wraps an object mapper for the format.
+         *
+         * @param contentType the content type, e.g., {@code application/msgpack}
+         * @param codec       the mapping to read and write values of the content type
+         * @return the current {@code AnnotatedConverters} instance, allowing for method chaining
+         */
+        public AnnotatedConverters registerCodec(String contentType, JsonMapping codec) {
+            codecs.put(contentType.toLowerCase(Locale.ROOT), Objects.requireNonNull(codec));
+            contentNegotiator.clear();
+            return this;
+        }
+
+        /**
+         * Gets a codec for a content type.
+         *
+         * @param contentType the content type; parameters like {@code charset} are ignored
+         * @return a codec, or {@code null} if there is no codec for the content type
+         */
+        public JsonMapping getCodec(String contentType) {
+            JsonMapping result = codecs.get(contentType);
+            if (result == null) {
+                int semicolon = contentType.indexOf(';');
+                String mediaType = semicolon >= 0 ? contentType.substring(0, semicolon).trim() : contentType;
+                result = codecs.get(mediaType.toLowerCase(Locale.ROOT));
+            }
+            return result;
+        }
+
+        /**
+         * Gets content types that have registered codecs.
+         *
+         * @return content types of codecs
+         */
+        public Set<String> getCodecContentTypes() {
+            return Collections.unmodifiableSet(codecs.keySet());
+        }
+
+        /**
+         * Gets content types that values of the specified class can be converted to.
+         *
+         * @param from source class to convert from
+         * @return content types of registered converters; empty if there are no converters
+         */
+        public Set<String> getConverterContentTypes(Class<?> from) {
+            Map<String, Method> methods = convertersTo.get(from);
+            return methods != null ? Collections.unmodifiableSet(methods.keySet()) : Collections.emptySet();
+        }
+
+        /**
+         * Chooses a content type of a response by the {@code Accept} header of a request. Decisions are cached per
+         * distinct header value and result type.
+         *
+         * @param accept the value of the {@code Accept} header; can be {@code null}
+         * @param from   the type of the result
+         * @return a content type of a registered converter that suits the request best, or {@code null} if the
+         * result should be sent using its default encoding
+         */
+        public String negotiateContentType(String accept, Type from) {
+            return contentNegotiator.negotiate(accept, converterType(from));
+        }
+
+        private static Class<?> converterType(Type type) {
+            if (type instanceof ParameterizedType parameterizedType) {
+                Class<?> rawType = (Class<?>) parameterizedType.getRawType();
+                // use array converter
+                if (rawType.isAssignableFrom(List.class) && parameterizedType.getActualTypeArguments().length > 0 &&
+                        parameterizedType.getActualTypeArguments()[0] instanceof Class<?> elementType)
+                    return elementType.arrayType();
+                return rawType;
+            }
+            return type instanceof Class<?> aClass ? aClass : Object.class;
+        }
+
+        private MethodInvoker invoker(Method method) {
+            return converterInvokers.computeIfAbsent(method, MethodInvoker::of);
         }
 
         /**
@@ -1142,7 +1149,7 @@ public class EasyRouting {
                 // use array converter
                 if (classTo.isAssignableFrom(List.class) && parameterizedType.getActualTypeArguments().length > 0) {
                     elementType = (Class<?>) parameterizedType.getActualTypeArguments()[0];
-                    classTo = Array.newInstance(elementType, 0).getClass();
+                    classTo = elementType.arrayType();
                 }
             } else {
                 classTo = (Class<?>) to;
@@ -1151,7 +1158,8 @@ public class EasyRouting {
             Method method = getConverter(from, classTo);
             if (method != null) {
                 try {
-                    Object result = method.invoke(null, RoutingContextHandler.convertValue(value, method.getParameterTypes()[0]));
+                    Object result = invoker(method).invoke(null,
+                            new Object[] {RoutingContextHandler.convertValue(value, method.getParameterTypes()[0])});
                     return result.getClass().isArray() && elementType != null ?
                             Arrays.asList((Object[]) result) :
                             result;
@@ -1160,7 +1168,15 @@ public class EasyRouting {
                     throw new RuntimeException(e);
                 }
             } else {
-                return value;
+                JsonMapping codec = value instanceof Buffer ? getCodec(from) : null;
+                if (codec == null)
+                    return value;
+
+                try {
+                    return codec.readValue((Buffer) value, to);
+                } catch (IOException e) {
+                    throw new IllegalArgumentException("Failed to decode " + from + " content to " + to.getTypeName(), e);
+                }
             }
         }
 
@@ -1183,7 +1199,7 @@ public class EasyRouting {
                 // use array converter
                 if (classFrom.isAssignableFrom(List.class) && parameterizedType.getActualTypeArguments().length > 0) {
                     elementType = (Class<?>) parameterizedType.getActualTypeArguments()[0];
-                    classFrom = Array.newInstance(elementType, 0).getClass();
+                    classFrom = elementType.arrayType();
                     List<?> list = (List<?>) value;
                     localValue = Array.newInstance(elementType, list.size());
                     localValue = (Object[]) list.toArray((Object[]) localValue);
@@ -1195,7 +1211,7 @@ public class EasyRouting {
             Method method = getConverter(classFrom, to);
             if (method != null) {
                 try {
-                    Object result = method.invoke(null, localValue);
+                    Object result = invoker(method).invoke(null, new Object[] {localValue});
                     return result.getClass().isArray() && elementType != null ?
                             Arrays.asList((Object[]) result) :
                             result;
@@ -1204,7 +1220,15 @@ public class EasyRouting {
                     throw new RuntimeException(e);
                 }
             } else {
-                return localValue;
+                JsonMapping codec = value instanceof Buffer ? null : getCodec(to);
+                if (codec == null)
+                    return localValue;
+
+                try {
+                    return codec.writeValueAsBuffer(value);
+                } catch (IOException e) {
+                    throw new IllegalArgumentException("Failed to encode " + from.getTypeName() + " as " + to, e);
+                }
             }
         }
     }
@@ -68,4 +68,13 @@ public interface EasyRoutingContext extends EasyRouting.AnnotatedConvertersHolde
      * @return the {@link CircuitBreaker} instance associated with the given name
      */
     public CircuitBreaker getCircuitBreaker(String name);
+
+    /**
+     * Returns the {@code JsonMapping} used to convert request data and results to and from JSON
+     *
+     * @return a {@code JsonMapping}
+     */
+    default JsonMapping getJsonMapping() {
+        return JsonMapping.getDefault();
+    }
 }
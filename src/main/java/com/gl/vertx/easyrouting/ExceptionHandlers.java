@@ -0,0 +1,91 @@
+/*
+ *
+ * Copyright 2025 Gregory Ledenev (gregory.ledenev37@gmail.com)
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies
+ * of the Software, and to permit persons to whom the Software is furnished to do
+ * so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * /
+ */
+
+package com.gl.vertx.easyrouting;
+
+import com.gl.vertx.easyrouting.annotations.HandlesException;
+
+import java.lang.reflect.Method;
+import java.util.*;
+
+/**
+ * Exception handlers of a controller class. Methods annotated by {@link HandlesException} are collected once per
+ * controller class and grouped into dispatch plans by handled exception classes. For every thrown exception class, a
+ * list of dispatch plans to try is resolved once: plans for the exception class itself go first, followed by plans for
+ * its superclasses.
+ */
+final class ExceptionHandlers {
+    private static final ClassValue<ExceptionHandlers> EXCEPTION_HANDLERS = new ClassValue<>() {
+        @Override
+        protected ExceptionHandlers computeValue(Class<?> type) {
+            return new ExceptionHandlers(type);
+        }
+    };
+
+    private final Map<Class<?>, DispatchPlan> plans;
+    private final ClassValue<List<DispatchPlan>> resolvedPlans = new ClassValue<>() {
+        @Override
+        protected List<DispatchPlan> computeValue(Class<?> exceptionClass) {
+            List<DispatchPlan> result = new ArrayList<>();
+            for (Class<?> type = exceptionClass; type != null; type = type.getSuperclass()) {
+                DispatchPlan plan = plans.get(type);
+                if (plan != null)
+                    result.add(plan);
+            }
+            return List.copyOf(result);
+        }
+    };
+
+    private ExceptionHandlers(Class<?> targetClass) {
+        Map<Class<?>, DispatchPlan> result = new HashMap<>();
+        for (Method method : targetClass.getDeclaredMethods()) {
+            HandlesException handlesException = method.getAnnotation(HandlesException.class);
+            if (handlesException != null && !result.containsKey(handlesException.value()))
+                result.put(handlesException.value(), DispatchPlan.of(targetClass, handlesException));
+        }
+        plans = Map.copyOf(result);
+    }
+
+    /**
+     * Returns exception handlers of a controller class.
+     *
+     * @param targetClass the controller class
+     * @return exception handlers
+     */
+    static ExceptionHandlers of(Class<?> targetClass) {
+        return EXCEPTION_HANDLERS.get(targetClass);
+    }
+
+    /**
+     * Returns dispatch plans that may handle an exception, in order they should be tried.
+     *
+     * @param exceptionClass class of the exception
+     * @return a list of dispatch plans; empty if there are no handlers for the exception
+     */
+    List<DispatchPlan> plansFor(Class<?> exceptionClass) {
+        return plans.isEmpty() ? Collections.emptyList() : resolvedPlans.get(exceptionClass);
+    }
+}
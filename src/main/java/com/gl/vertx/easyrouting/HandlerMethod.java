@@ -0,0 +1,416 @@
+/*
+ *
+ * Copyright 2025 Gregory Ledenev (gregory.ledenev37@gmail.com)
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies
+ * of the Software, and to permit persons to whom the Software is furnished to do
+ * so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * /
+ */
+
+package com.gl.vertx.easyrouting;
+
+import com.gl.vertx.easyrouting.annotations.*;
+import io.vertx.core.Future;
+import io.vertx.core.MultiMap;
+import io.vertx.ext.web.RoutingContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.*;
+
+/**
+ * Describes a handler method and its parameters. All the reflective information needed to match a request against
+ * the method and to bind its arguments is collected once, when a route is set up, so request processing deals with
+ * precomputed values only.
+ */
+final class HandlerMethod {
+    private static final Logger logger = LoggerFactory.getLogger(HandlerMethod.class);
+    private static boolean warnedAboutMissingParameterNames = false;
+
+    /**
+     * Kinds of handler method parameters, in order of their recognition.
+     */
+    enum ParameterKind {
+        PARAM,
+        BODY,
+        PATH,
+        UPLOADS,
+        CONTEXT,
+        COOKIE,
+        HEADER,
+        TEMPLATE_MODEL,
+        NODE_URI,
+        IMPLICIT
+    }
+
+    /**
+     * Describes a single handler method parameter.
+     *
+     * @param kind          kind of the parameter
+     * @param name          name of the parameter as it should be looked up in request parameters
+     * @param lowerCaseName lower-cased name of the parameter
+     * @param type          raw type of the parameter
+     * @param genericType   generic type of the parameter
+     * @param defaultValue  default value of the parameter, or {@code null} if the parameter is required
+     * @param annotationValue value of the parameter annotation (cookie name, header name, node name), or {@code null}
+     */
+    record ParameterInfo(ParameterKind kind,
+                         String name,
+                         String lowerCaseName,
+                         Class<?> type,
+                         Type genericType,
+                         String defaultValue,
+                         String annotationValue) {
+        boolean isRoutingContext() {
+            return type.equals(RoutingContext.class);
+        }
+
+        boolean isThrowable() {
+            return Throwable.class.isAssignableFrom(type);
+        }
+    }
+
+    private final Method method;
+    private final MethodInvoker invoker;
+    private final ParameterInfo[] parameters;
+    private final ParameterBinder[] binders;
+    private final String[] parameterNames;
+    private final boolean hasBodyParam;
+    private final boolean hasNodeURIParam;
+    private final boolean formHandler;
+    private final boolean decomposeBody;
+    private final boolean blocking;
+    private final Retry retry;
+    private final String[] requiredRoles;
+    private final long[] requiredRoleSet;
+    private final Annotation[] annotations;
+    private final Type genericReturnType;
+    private final Type resultType;
+    private final Map<String, String> httpHeaders;
+    private final MemoizedResponse memoizedResponse;
+
+    HandlerMethod(Method method) {
+        this(method, null);
+    }
+
+    HandlerMethod(Method method, MethodInvoker invoker) {
+        this.method = method;
+        this.invoker = invoker != null ? invoker : MethodInvoker.of(method);
+
+        Parameter[] methodParameters = method.getParameters();
+        Type[] genericParameterTypes = method.getGenericParameterTypes();
+        parameters = new ParameterInfo[methodParameters.length];
+        binders = new ParameterBinder[methodParameters.length];
+        parameterNames = new String[methodParameters.length];
+        boolean bodyParam = false;
+        boolean nodeURIParam = false;
+        for (int i = 0; i < methodParameters.length; i++) {
+            // generic types may omit synthetic parameters, so fall back to the parameter's own type
+            Type genericType = genericParameterTypes.length == methodParameters.length ?
+                    genericParameterTypes[i] :
+                    methodParameters[i].getParameterizedType();
+            parameters[i] = parameterInfo(methodParameters[i], genericType);
+            binders[i] = ParameterBinder.of(parameters[i]);
+            parameterNames[i] = parameters[i].name();
+            bodyParam |= parameters[i].kind() == ParameterKind.BODY;
+            nodeURIParam |= parameters[i].kind() == ParameterKind.NODE_URI;
+        }
+        hasBodyParam = bodyParam;
+        hasNodeURIParam = nodeURIParam;
+
+        formHandler = method.isAnnotationPresent(Form.class);
+        decomposeBody = method.isAnnotationPresent(DecomposeBody.class);
+        blocking = isBlockingAnnotationPresent(method);
+        retry = method.getAnnotation(Retry.class);
+        requiredRoles = HttpMethods.requiredRoles(method);
+        requiredRoleSet = RoleRegistry.intern(requiredRoles);
+        annotations = method.getAnnotations();
+        genericReturnType = method.getGenericReturnType();
+        resultType = resultType(genericReturnType);
+        httpHeaders = Collections.unmodifiableMap(httpHeaders(method));
+        memoizedResponse = MemoizedResponse.of(method);
+    }
+
+    private static ParameterInfo parameterInfo(Parameter parameter, Type genericType) {
+        Class<?> type = parameter.getType();
+
+        Param param = parameter.getAnnotation(Param.class);
+        if (param != null) {
+            return new ParameterInfo(ParameterKind.PARAM, param.value(), param.value().toLowerCase(), type, genericType,
+                    param.defaultValue().equals(Param.UNSPECIFIED) ? null : param.defaultValue(), null);
+        }
+
+        BodyParam bodyParam = parameter.getAnnotation(BodyParam.class);
+        if (bodyParam != null)
+            return parameterInfo(ParameterKind.BODY, bodyParam.value(), type, genericType, null);
+
+        PathParam pathParam = parameter.getAnnotation(PathParam.class);
+        if (pathParam != null)
+            return parameterInfo(ParameterKind.PATH, pathParam.value(), type, genericType, null);
+
+        if (parameter.isAnnotationPresent(UploadsParam.class))
+            return parameterInfo(ParameterKind.UPLOADS, "uploads", type, genericType, null);
+
+        ContextParam contextParam = parameter.getAnnotation(ContextParam.class);
+        if (contextParam != null)
+            return parameterInfo(ParameterKind.CONTEXT, contextParam.value(), type, genericType, null);
+
+        CookieParam cookieParam = parameter.getAnnotation(CookieParam.class);
+        if (cookieParam != null)
+            return parameterInfo(ParameterKind.COOKIE, parameter.getName(), type, genericType, cookieParam.value());
+
+        HeaderParam headerParam = parameter.getAnnotation(HeaderParam.class);
+        if (headerParam != null)
+            return parameterInfo(ParameterKind.HEADER, parameter.getName(), type, genericType, headerParam.value());
+
+        if (parameter.isAnnotationPresent(TemplateModelParam.class) || type.equals(TemplateModel.class))
+            return parameterInfo(ParameterKind.TEMPLATE_MODEL, parameter.getName(), type, genericType, null);
+
+        NodeURI nodeURI = parameter.getAnnotation(NodeURI.class);
+        if (nodeURI != null)
+            return parameterInfo(ParameterKind.NODE_URI, parameter.getName(), type, genericType, nodeURI.value());
+
+        if (parameter.getName().matches("arg\\d+") && !warnedAboutMissingParameterNames) {
+            warnedAboutMissingParameterNames = true;
+            logger.warn("Parameter names are missing. Either use @Param annotations or compile project with -parameters option");
+        }
+        return parameterInfo(ParameterKind.IMPLICIT, parameter.getName(), type, genericType, null);
+    }
+
+    private static ParameterInfo parameterInfo(ParameterKind kind, String name, Class<?> type, Type genericType, String annotationValue) {
+        return new ParameterInfo(kind, name, name.toLowerCase(), type, genericType, null, annotationValue);
+    }
+
+    private static boolean isBlockingAnnotationPresent(Method method) {
+        if (method.isAnnotationPresent(Blocking.class))
+            return true;
+
+        for (Annotation annotation : method.getAnnotations())
+            if (annotation.annotationType().isAnnotationPresent(Blocking.class))
+                return true;
+
+        return false;
+    }
+
+    private static Map<String, String> httpHeaders(Method method) {
+        Map<String, String> result = new LinkedHashMap<>();
+
+        HttpHeaders headers = method.getAnnotation(HttpHeaders.class);
+        if (headers != null) {
+            for (HttpHeader header : headers.value()) {
+                String[] headerParts = header.value().split(":");
+                if (headerParts.length == 2)
+                    result.put(headerParts[0].trim(), headerParts[1].trim());
+                else
+                    logger.warn("Invalid header definition: " + header.value());
+            }
+        }
+
+        ContentType contentType = method.getAnnotation(ContentType.class);
+        if (contentType != null)
+            result.put(Result.CONTENT_TYPE, contentType.value());
+
+        return result;
+    }
+
+    /**
+     * Checks whether the method can handle a request with given parameters.
+     *
+     * @param params         case-insensitive request parameters
+     * @param formAttributes case-insensitive form attributes, or {@code null} if there are no form attributes
+     * @return {@code true} if the method matches the request; {@code false} otherwise
+     */
+    boolean matches(MultiMap params, MultiMap formAttributes) {
+        int matchedParamCount = 0;
+        int optionalParamCount = 0;
+        int otherParamCount = 0;
+        boolean checkFormAttributes = formHandler && formAttributes != null;
+
+        for (ParameterInfo parameter : parameters) {
+            switch (parameter.kind()) {
+                case PARAM -> {
+                    boolean present = params.contains(parameter.lowerCaseName());
+                    if (parameter.defaultValue() == null) {
+                        if (present)
+                            matchedParamCount++;
+                        else if (checkFormAttributes && formAttributes.contains(parameter.lowerCaseName()))
+                            otherParamCount++;
+                    } else {
+                        matchedParamCount++;
+                        if (!present)
+                            optionalParamCount++;
+                        else if (checkFormAttributes && formAttributes.contains(parameter.lowerCaseName()))
+                            otherParamCount++;
+                    }
+                }
+                case IMPLICIT -> {
+                    if (params.contains(parameter.lowerCaseName()))
+                        matchedParamCount++;
+                    else if (checkFormAttributes && formAttributes.contains(parameter.lowerCaseName()))
+                        otherParamCount++;
+                    else if (parameter.isRoutingContext() || parameter.isThrowable())
+                        otherParamCount++;
+                }
+                default -> otherParamCount++;
+            }
+        }
+
+        return parameters.length == matchedParamCount + otherParamCount &&
+                matchedParamCount == params.size() + optionalParamCount;
+    }
+
+    /**
+     * Binds handler method arguments for a request.
+     *
+     * @param request the request to bind arguments for
+     * @return the handler method arguments
+     */
+    Object[] bindArguments(ParameterBinder.BindingRequest request) {
+        Object[] result = new Object[binders.length];
+        for (int i = 0; i < binders.length; i++)
+            result[i] = binders[i].bind(request);
+        return result;
+    }
+
+    Method method() {
+        return method;
+    }
+
+    /**
+     * Invokes the handler method.
+     *
+     * @param target the object to invoke the method on
+     * @param args   the method arguments
+     * @return the result of the invocation
+     * @throws InvocationTargetException if the handler method throws an exception
+     * @throws IllegalAccessException    if the handler method is not accessible
+     */
+    Object invoke(Object target, Object[] args) throws InvocationTargetException, IllegalAccessException {
+        return invoker.invoke(target, args);
+    }
+
+    String name() {
+        return method.getName();
+    }
+
+    ParameterInfo[] parameters() {
+        return parameters;
+    }
+
+    String[] parameterNames() {
+        return parameterNames;
+    }
+
+    boolean hasBodyParam() {
+        return hasBodyParam;
+    }
+
+    boolean hasNodeURIParam() {
+        return hasNodeURIParam;
+    }
+
+    boolean isFormHandler() {
+        return formHandler;
+    }
+
+    boolean isDecomposeBody() {
+        return decomposeBody;
+    }
+
+    boolean isBlocking() {
+        return blocking;
+    }
+
+    Retry retry() {
+        return retry;
+    }
+
+    String[] requiredRoles() {
+        return requiredRoles;
+    }
+
+    /**
+     * Returns roles required to invoke the handler method as a bitset of {@link RoleRegistry} roles.
+     *
+     * @return a bitset of required roles; empty if no roles are required
+     */
+    long[] requiredRoleSet() {
+        return requiredRoleSet;
+    }
+
+    Annotation[] annotations() {
+        return annotations;
+    }
+
+    Class<?> returnType() {
+        return method.getReturnType();
+    }
+
+    Type genericReturnType() {
+        return genericReturnType;
+    }
+
+    /**
+     * Returns the declared type of results with {@link Future} and {@link Result} wrappers removed, e.g. {@code User}
+     * for {@code Future<Result<User>>}.
+     *
+     * @return the type of results, or {@code null} if it is known at runtime only
+     */
+    Type resultType() {
+        return resultType;
+    }
+
+    private static Type resultType(Type type) {
+        while (type instanceof ParameterizedType parameterizedType &&
+                (parameterizedType.getRawType() == Future.class || parameterizedType.getRawType() == Result.class))
+            type = parameterizedType.getActualTypeArguments()[0];
+
+        if (type == Future.class || type == Result.class || type == Object.class ||
+                type instanceof TypeVariable<?> || type instanceof WildcardType)
+            return null;
+        return type;
+    }
+
+    Map<String, String> httpHeaders() {
+        return httpHeaders;
+    }
+
+    /**
+     * Returns memoized responses of the handler method.
+     *
+     * @return memoized responses, or {@code null} if the method is not annotated with {@code @Memoize}
+     */
+    MemoizedResponse memoizedResponse() {
+        return memoizedResponse;
+    }
+
+    @Override
+    public String toString() {
+        return method.toString();
+    }
+}
@@ -54,6 +54,7 @@ public class JWTUtil {
     static final String SUB = "sub";
     static final String ROLES = "roles";
     static final String EXP = "exp";
+    private static final String KEY_ROLES_HEADER = "easyRoutingRolesHeader";
 
     /**
      * Generates a JWT token for a user with the specified user ID and roles.
@@ -178,12 +179,12 @@ public class JWTUtil {
      */
     public static Handler<RoutingContext> guardedHandler(String requiredRole, Handler<RoutingContext> handler,
                                                          Function<RoutingContext, Boolean> notAuthorised) {
+        long[] requiredRoles = RoleRegistry.intern(requiredRole);
         return routingContext -> {
             JsonObject principal = routingContext.user().principal();
             String userId = principal.getString(SUB);
-            JsonArray rolesArray = principal.getJsonArray(ROLES, new JsonArray());
 
-            if (rolesArray == null || !rolesArray.contains(requiredRole)) {
+            if (!RoleRegistry.containsAll(RoleRegistry.principalRoles(routingContext), requiredRoles)) {
                 boolean handled = false;
                 if (notAuthorised != null)
                     handled = notAuthorised.apply(routingContext);
@@ -194,16 +195,27 @@ public class JWTUtil {
             }
 
             routingContext.request().headers().set("X-User-ID", userId);
-            if (rolesArray != null) {
-                routingContext.request().headers().set("X-User-Roles", rolesArray.stream()
-                        .map(Object::toString)
-                        .collect(Collectors.joining(",")));
-            }
+            routingContext.request().headers().set("X-User-Roles", rolesHeader(routingContext, principal));
 
             handler.handle(routingContext);
         };
     }
 
+    private static String rolesHeader(RoutingContext routingContext, JsonObject principal) {
+        // nested guarded handlers share the header built for the same principal
+        RolesHeader rolesHeader = routingContext.get(KEY_ROLES_HEADER);
+        if (rolesHeader == null || rolesHeader.principal() != principal) {
+            rolesHeader = new RolesHeader(principal, principal.getJsonArray(ROLES, new JsonArray()).stream()
+                    .map(Object::toString)
+                    .collect(Collectors.joining(",")));
+            routingContext.put(KEY_ROLES_HEADER, rolesHeader);
+        }
+        return rolesHeader.value();
+    }
+
+    private record RolesHeader(JsonObject principal, String value) {
+    }
+
     /**
      * Represents a parsed JWT token containing user information and roles.
      */
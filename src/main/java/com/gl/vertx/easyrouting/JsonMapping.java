@@ -0,0 +1,313 @@
+/*
+ *
+ * Copyright 2025 Gregory Ledenev (gregory.ledenev37@gmail.com)
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies
+ * of the Software, and to permit persons to whom the Software is furnished to do
+ * so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * /
+ */
+
+package com.gl.vertx.easyrouting;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.ser.std.StdScalarSerializer;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializerBase;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import io.netty.buffer.ByteBuf;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.jackson.VertxModule;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JSON mapping used by EasyRouting to convert request parameters and bodies to handler method parameters and to
+ * convert handler results to JSON. It wraps a Jackson {@link ObjectMapper} and caches {@link JavaType}s,
+ * {@link ObjectReader}s and {@link ObjectWriter}s per generic type, so classes are introspected once per mapping
+ * rather than once per request.
+ * <p>
+ * By default, EasyRouting uses a shared mapping with a {@link JsonMapper} that supports Vert.x types. Applications can
+ * supply their own {@code ObjectMapper} or register additional Jackson modules (e.g., JavaTime, Afterburner or
+ * Blackbird) via {@link Application#jsonMapping(JsonMapping)} and {@link #registerModules(Module...)}.
+ * <p>
+ * A mapping can also wrap an object mapper of a binary data format, like the ones created by {@link #cbor()} and
+ * {@link #smile()}; such mappings are used as codecs of binary content types
+ * (see {@link EasyRouting.AnnotatedConverters#registerCodec(String, JsonMapping)}).
+ */
+public class JsonMapping {
+    private static final JsonMapping DEFAULT = new JsonMapping();
+
+    private static final int INITIAL_BUFFER_SIZE = 256;
+
+    private final ObjectMapper objectMapper;
+    private final Map<Type, JavaType> javaTypes = new ConcurrentHashMap<>();
+    private final Map<Type, ObjectReader> readers = new ConcurrentHashMap<>();
+    private final Map<Type, ObjectWriter> writers = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Boolean> scalars = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a JSON mapping with a {@link JsonMapper} that handles Vert.x types ({@code JsonObject},
+     * {@code JsonArray}, {@code Buffer}, {@code Instant} and byte arrays) the same way as Vert.x does and uses
+     * {@linkplain #recordCodecs() record codecs}.
+     */
+    public JsonMapping() {
+        this(JsonMapper.builder().addModules(new VertxModule(), recordCodecs()).build());
+    }
+
+    /**
+     * Creates a JSON mapping for an object mapper.
+     *
+     * @param objectMapper the object mapper to use
+     */
+    public JsonMapping(ObjectMapper objectMapper) {
+        this.objectMapper = Objects.requireNonNull(objectMapper);
+    }
+
+    /**
+     * Creates a mapping that reads and writes binary CBOR (RFC 8949) instead of JSON text.
+     *
+     * @return a CBOR mapping
+     */
+    public static JsonMapping cbor() {
+        return new JsonMapping(CBORMapper.builder().addModules(new VertxModule(), recordCodecs()).build());
+    }
+
+    /**
+     * Creates a mapping that reads and writes binary Smile, Jackson's binary JSON format, instead of JSON text.
+     *
+     * @return a Smile mapping
+     */
+    public static JsonMapping smile() {
+        return new JsonMapping(SmileMapper.builder().addModules(new VertxModule(), recordCodecs()).build());
+    }
+
+    /**
+     * Creates a module with codecs specialized for Java records: record components are read and written via method
+     * handles bound when a record type is first mapped, instead of Jackson's reflective bean introspection. The module
+     * is registered in mappings created by EasyRouting; custom object mappers can register it explicitly.
+     *
+     * @return a module with record codecs
+     */
+    public static Module recordCodecs() {
+        return RecordCodecs.module();
+    }
+
+    /**
+     * Returns a shared default JSON mapping.
+     *
+     * @return the default JSON mapping
+     */
+    public static JsonMapping getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Returns the object mapper used by this mapping.
+     *
+     * @return the object mapper
+     */
+    public ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
+    /**
+     * Registers Jackson modules with the object mapper. Cached readers and writers are discarded, so modules should
+     * be registered before an application is started.
+     *
+     * @param modules modules to register
+     * @return the current {@code JsonMapping} instance, allowing for method chaining
+     */
+    public JsonMapping registerModules(Module... modules) {
+        objectMapper.registerModules(modules);
+        javaTypes.clear();
+        readers.clear();
+        writers.clear();
+        scalars.clear();
+        return this;
+    }
+
+    /**
+     * Returns a Jackson type for a generic type.
+     *
+     * @param type the generic type
+     * @return a Jackson type
+     */
+    public JavaType javaType(Type type) {
+        return javaTypes.computeIfAbsent(type, objectMapper::constructType);
+    }
+
+    /**
+     * Returns a reader for a generic type.
+     *
+     * @param type the generic type
+     * @return a reader
+     */
+    public ObjectReader reader(Type type) {
+        return readers.computeIfAbsent(type, t -> objectMapper.readerFor(javaType(t)));
+    }
+
+    /**
+     * Returns a writer for a generic type.
+     *
+     * @param type the generic type
+     * @return a writer
+     */
+    public ObjectWriter writer(Type type) {
+        return writers.computeIfAbsent(type, t -> objectMapper.writerFor(javaType(t)));
+    }
+
+    /**
+     * Checks whether values of a class are written as JSON scalars, e.g., enums, strings or numbers, according to the
+     * serializer that the object mapper selects for the class.
+     *
+     * @param type the class of values
+     * @return {@code true} if values are written as scalars
+     */
+    public boolean isScalar(Class<?> type) {
+        return scalars.computeIfAbsent(type, t -> {
+            if (t.isEnum() || CharSequence.class.isAssignableFrom(t) || t == Character.class)
+                return true;
+            try {
+                JsonSerializer<Object> serializer = objectMapper.getSerializerProviderInstance().findValueSerializer(t);
+                return serializer instanceof StdScalarSerializer<?> || serializer instanceof ToStringSerializerBase;
+            } catch (JsonMappingException e) {
+                return false;
+            }
+        });
+    }
+
+    /**
+     * Converts a value, e.g., a map or a list, to a generic type.
+     *
+     * @param value the value to convert
+     * @param type  the target type
+     * @param <T>   the target type
+     * @return the converted value
+     * @throws IllegalArgumentException if the value can't be converted
+     */
+    public <T> T convertValue(Object value, Type type) {
+        return objectMapper.convertValue(value, javaType(type));
+    }
+
+    /**
+     * Writes a value as UTF-8 encoded JSON (or in the binary format of the mapping) straight into a {@link Buffer},
+     * without building an intermediate JSON tree or a string.
+     *
+     * @param value the value to write
+     * @return a buffer containing JSON
+     * @throws JsonProcessingException if the value can't be written
+     */
+    public Buffer writeValueAsBuffer(Object value) throws JsonProcessingException {
+        Buffer result = Buffer.buffer(INITIAL_BUFFER_SIZE);
+        try {
+            writer(value != null ? value.getClass() : Object.class).writeValue(new BufferOutputStream(result), value);
+        } catch (JsonProcessingException e) {
+            throw e;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // writing to a buffer doesn't fail on I/O
+        }
+        return result;
+    }
+
+    /**
+     * Reads a value of a generic type from JSON.
+     *
+     * @param json the JSON to read
+     * @param type the target type
+     * @param <T>  the target type
+     * @return the read value
+     * @throws JsonProcessingException if the JSON can't be read
+     */
+    public <T> T readValue(String json, Type type) throws JsonProcessingException {
+        return reader(type).readValue(json);
+    }
+
+    /**
+     * Reads a value of a generic type from UTF-8 encoded JSON (or the binary format of the mapping) in a
+     * {@link Buffer}. Heap buffers of Vert.x are parsed in place when their backing array is accessible; other buffers
+     * are parsed from a copy of their bytes obtained via the public {@link Buffer#getBytes()}.
+     *
+     * @param json the buffer containing JSON to read
+     * @param type the target type
+     * @param <T>  the target type
+     * @return the read value
+     * @throws IOException if the JSON can't be read
+     */
+    public <T> T readValue(Buffer json, Type type) throws IOException {
+        ObjectReader reader = reader(type);
+        if (ByteBufAccess.AVAILABLE) {
+            ByteBuf byteBuf = ByteBufAccess.byteBuf(json);
+            if (byteBuf != null && byteBuf.hasArray())
+                return reader.readValue(byteBuf.array(), byteBuf.arrayOffset() + byteBuf.readerIndex(),
+                        byteBuf.readableBytes());
+        }
+        return reader.readValue(json.getBytes());
+    }
+
+    /**
+     * Isolates access to the Netty buffer behind Vert.x buffers, which is not part of the public Vert.x API. The access
+     * is disabled if the internal buffer interface is missing or incompatible, so reads fall back to
+     * {@link Buffer#getBytes()}.
+     */
+    private static final class ByteBufAccess {
+        static final boolean AVAILABLE = isAvailable();
+
+        private static boolean isAvailable() {
+            try {
+                return ByteBuf.class.isAssignableFrom(
+                        Class.forName("io.vertx.core.internal.buffer.BufferInternal").getMethod("getByteBuf").getReturnType());
+            } catch (ReflectiveOperationException | LinkageError e) {
+                return false;
+            }
+        }
+
+        static ByteBuf byteBuf(Buffer buffer) {
+            return buffer instanceof io.vertx.core.internal.buffer.BufferInternal bufferInternal ?
+                    bufferInternal.getByteBuf() : null;
+        }
+    }
+
+    private static class BufferOutputStream extends OutputStream {
+        private final Buffer buffer;
+
+        BufferOutputStream(Buffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public void write(int b) {
+            buffer.appendByte((byte) b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            buffer.appendBytes(b, off, len);
+        }
+    }
+}
@@ -37,7 +37,9 @@ import java.text.MessageFormat;
 import java.util.Base64;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 import static com.gl.vertx.easyrouting.Result.*;
 
@@ -72,29 +74,35 @@ public class JsonRpcContext extends RpcContext {
         rpcRequest = getRpcRequest(body);
     }
 
+    @SuppressWarnings("unchecked")
     private RpcRequest getRpcRequest(RequestBody body) throws RpcException {
-        JsonObject rpcRequestObject;
+        Map<String, Object> rpcRequestObject;
         try {
-            rpcRequestObject = body.asJsonObject();
+            // parse the body bytes straight into maps, so arguments don't go through an intermediate JsonObject
+            Buffer buffer = body.buffer();
+            if (buffer == null || buffer.length() == 0)
+                throw new IllegalArgumentException("Request body is empty");
+            rpcRequestObject = JsonMapping.getDefault().readValue(buffer, Map.class);
         } catch (Exception e) {
             throw new RpcException(getInvalidRequestRpcResponse(e));
         }
 
-        String version = rpcRequestObject.getString(KEY_VERSION);
+        Object version = rpcRequestObject.get(KEY_VERSION);
         if (version != null) {
-            String id = rpcRequestObject.getString(KEY_ID);
+            Object id = rpcRequestObject.get(KEY_ID);
+            String idString = Objects.toString(id, null);
             if (VERSION.equals(version)) {
-                if (! (rpcRequestObject.getValue(KEY_PARAMS) instanceof JsonArray)) {
-                    JsonObject params = rpcRequestObject.getJsonObject(KEY_PARAMS);
+                Object params = rpcRequestObject.get(KEY_PARAMS);
+                if (! (params instanceof List<?>)) {
                     return new RpcRequest(
-                            id,
-                            rpcRequestObject.getString(KEY_METHOD),
-                            params != null ? params.getMap() : Collections.emptyMap());
+                            idString,
+                            Objects.toString(rpcRequestObject.get(KEY_METHOD), null),
+                            params instanceof Map<?, ?> ? (Map<String, Object>) params : Collections.emptyMap());
                 } else {
-                    throw new RpcException(getSequentialParametersNotSupportedRpcResponse(id));
+                    throw new RpcException(getSequentialParametersNotSupportedRpcResponse(idString));
                 }
             } else {
-                throw new RpcException(getInvalidPayloadRpcResponse(version, id));
+                throw new RpcException(getInvalidPayloadRpcResponse(version.toString(), idString));
             }
         } else {
             return null;
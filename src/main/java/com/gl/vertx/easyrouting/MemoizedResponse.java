@@ -0,0 +1,151 @@
+/*
+ *
+ * Copyright 2025 Gregory Ledenev (gregory.ledenev37@gmail.com)
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies
+ * of the Software, and to permit persons to whom the Software is furnished to do
+ * so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * /
+ */
+package com.gl.vertx.easyrouting;
+
+import com.gl.vertx.easyrouting.annotations.Memoize;
+import io.vertx.ext.web.RoutingContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Memoized responses of a handler method annotated with {@link Memoize}. Responses are kept per value of the
+ * {@code Accept} header and are valid until their time to live passes or their group is invalidated.
+ */
+final class MemoizedResponse {
+    private static final Logger logger = LoggerFactory.getLogger(MemoizedResponse.class);
+
+    private static final int MAX_ACCEPT_HEADERS = 64;
+    private static final String NO_ACCEPT = "";
+
+    private static final AtomicLong generation = new AtomicLong();
+    private static final Map<String, AtomicLong> groupGenerations = new ConcurrentHashMap<>();
+
+    private final long ttlNanos;
+    private final AtomicLong groupGeneration;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private MemoizedResponse(Memoize memoize) {
+        ttlNanos = memoize.ttl() * 1_000_000L;
+        groupGeneration = groupGenerations.computeIfAbsent(memoize.group(), k -> new AtomicLong());
+    }
+
+    /**
+     * Creates memoized responses for a handler method.
+     *
+     * @param method the handler method
+     * @return memoized responses, or {@code null} if the method is not memoized
+     */
+    static MemoizedResponse of(Method method) {
+        Memoize memoize = method.getAnnotation(Memoize.class);
+        if (memoize == null)
+            return null;
+
+        if (method.getParameterCount() > 0) {
+            logger.warn("Method: " + method + " has parameters, so @Memoize is ignored.");
+            return null;
+        }
+        return new MemoizedResponse(memoize);
+    }
+
+    /**
+     * Invalidates memoized responses of all handler methods.
+     */
+    static void invalidateAll() {
+        generation.incrementAndGet();
+    }
+
+    /**
+     * Invalidates memoized responses of a group.
+     *
+     * @param group the group name
+     */
+    static void invalidate(String group) {
+        AtomicLong groupGeneration = groupGenerations.get(group);
+        if (groupGeneration != null)
+            groupGeneration.incrementAndGet();
+    }
+
+    /**
+     * Sends a memoized response if there is a valid one for a request.
+     *
+     * @param ctx the routing context
+     * @return {@code true} if a response was sent; {@code false} if the handler method should be invoked
+     */
+    boolean send(RoutingContext ctx) {
+        if (RpcContext.getRpcContext(ctx) != null)
+            return false;
+
+        Entry entry = entries.get(acceptHeader(ctx));
+        if (entry == null || !entry.isValid(this))
+            return false;
+
+        entry.response().send(ctx);
+        return true;
+    }
+
+    /**
+     * Memoizes a result of the handler method and sends it.
+     *
+     * @param ctx    the routing context
+     * @param result the result to memoize
+     * @return {@code true} if the result was memoized and sent; {@code false} if it should be handled as usual
+     */
+    boolean memoize(RoutingContext ctx, Result<?> result) {
+        if (RpcContext.getRpcContext(ctx) != null)
+            return false;
+
+        Result.EncodedResponse response = result.encode();
+        if (response == null)
+            return false;
+
+        String accept = acceptHeader(ctx);
+        if (entries.size() < MAX_ACCEPT_HEADERS || entries.containsKey(accept)) {
+            long expiresAt = ttlNanos > 0 ? System.nanoTime() + ttlNanos : 0;
+            entries.put(accept, new Entry(response, generation.get(), groupGeneration.get(), expiresAt));
+        }
+
+        response.send(ctx);
+        return true;
+    }
+
+    private static String acceptHeader(RoutingContext ctx) {
+        String result = ctx.request().getHeader(ContentNegotiator.ACCEPT);
+        return result != null ? result : NO_ACCEPT;
+    }
+
+    private record Entry(Result.EncodedResponse response, long generation, long groupGeneration, long expiresAt) {
+        boolean isValid(MemoizedResponse memoizedResponse) {
+            return generation == MemoizedResponse.generation.get() &&
+                    groupGeneration == memoizedResponse.groupGeneration.get() &&
+                    (expiresAt == 0 || System.nanoTime() - expiresAt < 0);
+        }
+    }
+}
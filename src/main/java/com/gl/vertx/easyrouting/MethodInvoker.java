@@ -0,0 +1,76 @@
+/*
+ *
+ * Copyright 2025 Gregory Ledenev (gregory.ledenev37@gmail.com)
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies
+ * of the Software, and to permit persons to whom the Software is furnished to do
+ * so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * /
+ */
+
+package com.gl.vertx.easyrouting;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * Invokes handler and converter methods. Invokers are created once per method and behave like
+ * {@link Method#invoke(Object, Object...)}: exceptions thrown by an invoked method are wrapped into
+ * {@link InvocationTargetException} and improper arguments lead to {@link IllegalArgumentException}.
+ * <p>
+ * Generated {@link ControllerRegistrar}s implement this interface to call handler methods directly.
+ */
+@FunctionalInterface
+public interface MethodInvoker {
+    /**
+     * Invokes a method.
+     *
+     * @param target the object to invoke the method on; ignored for static methods
+     * @param args   the method arguments
+     * @return the result of the invocation; {@code null} for void methods
+     * @throws InvocationTargetException if the invoked method throws an exception
+     * @throws IllegalAccessException    if the method is not accessible
+     */
+    Object invoke(Object target, Object[] args) throws InvocationTargetException, IllegalAccessException;
+
+    /**
+     * Returns an invoker for a method. An invoker class that calls the method via a constant {@link MethodHandle} is
+     * generated if possible; otherwise, e.g., for methods that are not accessible from EasyRouting, a reflective
+     * invoker is returned. Invokers are created once per method and shared by all routes that use the method.
+     *
+     * @param method the method to return an invoker for
+     * @return an invoker
+     */
+    static MethodInvoker of(Method method) {
+        return MethodInvokerGenerator.invoker(method);
+    }
+
+    /**
+     * Creates an invoker that calls a method via reflection. Access checks are suppressed if possible, so methods that
+     * are not accessible from EasyRouting, like private handler methods, can be called.
+     *
+     * @param method the method to create an invoker for
+     * @return an invoker
+     */
+    static MethodInvoker reflective(Method method) {
+        method.trySetAccessible();
+        return method::invoke;
+    }
+}
@@ -0,0 +1,278 @@
+/*
+ *
+ * Copyright 2025 Gregory Ledenev (gregory.ledenev37@gmail.com)
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies
+ * of the Software, and to permit persons to whom the Software is furnished to do
+ * so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * /
+ */
+
+package com.gl.vertx.easyrouting;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Generates a {@link MethodInvoker} per method as a hidden class. The method handle of a method is passed to its
+ * hidden class as class data and loaded by a dynamic constant, so the JIT treats it as a constant and can inline the
+ * invoked method into {@link MethodInvoker#invoke(Object, Object[])}, unlike a handle kept in an instance field.
+ */
+final class MethodInvokerGenerator {
+    private static final Logger logger = LoggerFactory.getLogger(MethodInvokerGenerator.class);
+    private static final String CLASS_NAME = "com/gl/vertx/easyrouting/MethodInvoker$Generated";
+
+    private static final MethodHandle WRAP_EXCEPTION;
+    private static final MethodHandle WRAP_ARGUMENT_EXCEPTION;
+    private static final byte[] INVOKER_CLASS = invokerClass();
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            WRAP_EXCEPTION = lookup.findStatic(MethodInvokerGenerator.class, "wrapException",
+                    MethodType.methodType(Object.class, Throwable.class));
+            WRAP_ARGUMENT_EXCEPTION = lookup.findStatic(MethodInvokerGenerator.class, "wrapArgumentException",
+                    MethodType.methodType(Object.class, RuntimeException.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    // invokers are kept with declaring classes, so they don't prevent classes from being unloaded
+    private static final ClassValue<Map<Method, MethodInvoker>> INVOKERS = new ClassValue<>() {
+        @Override
+        protected Map<Method, MethodInvoker> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private MethodInvokerGenerator() {
+    }
+
+    /**
+     * Returns a cached invoker for a method, generating it on first use. Methods that are not accessible from
+     * EasyRouting get a {@linkplain MethodInvoker#reflective(Method) reflective} invoker.
+     *
+     * @param method the method to return an invoker for
+     * @return an invoker
+     */
+    static MethodInvoker invoker(Method method) {
+        return INVOKERS.get(method.getDeclaringClass()).computeIfAbsent(method, m -> {
+            try {
+                return generate(m);
+            } catch (IllegalAccessException | RuntimeException | LinkageError e) {
+                logger.debug("Using reflective invoker for: " + m, e);
+                return MethodInvoker.reflective(m);
+            }
+        });
+    }
+
+    /**
+     * Generates an invoker for a method.
+     *
+     * @param method the method to generate an invoker for
+     * @return an invoker
+     * @throws IllegalAccessException if the method is not accessible from EasyRouting
+     */
+    static MethodInvoker generate(Method method) throws IllegalAccessException {
+        MethodHandle handle = invokerHandle(method);
+        Class<?> invokerClass = MethodHandles.lookup()
+                .defineHiddenClassWithClassData(INVOKER_CLASS, handle, true)
+                .lookupClass();
+        try {
+            return (MethodInvoker) invokerClass.getDeclaredConstructor().newInstance();
+        } catch (InvocationTargetException | InstantiationException | NoSuchMethodException e) {
+            throw new IllegalStateException("Failed to instantiate invoker for: " + method, e);
+        }
+    }
+
+    /**
+     * Adapts a method to the {@code (Object, Object[])Object} shape: arguments are spread and unboxed, exceptions
+     * thrown by the method itself are wrapped into {@link InvocationTargetException} and failures to adapt improper
+     * arguments are reported as {@link IllegalArgumentException}, as {@link Method#invoke(Object, Object...)} does.
+     */
+    static MethodHandle invokerHandle(Method method) throws IllegalAccessException {
+        MethodHandle handle = MethodHandles.lookup().unreflect(method);
+        MethodType type = handle.type();
+
+        // wrap exceptions thrown by the method itself only, to tell them apart from improper arguments
+        MethodHandle exceptionHandler = MethodHandles.dropArguments(
+                WRAP_EXCEPTION.asType(MethodType.methodType(type.returnType(), Throwable.class)),
+                1, type.parameterList());
+        handle = MethodHandles.catchException(handle, Throwable.class, exceptionHandler);
+
+        if (Modifier.isStatic(method.getModifiers()))
+            handle = MethodHandles.dropArguments(handle, 0, Object.class);
+
+        handle = handle.asType(handle.type().generic())
+                .asSpreader(Object[].class, method.getParameterCount());
+        return MethodHandles.catchException(handle, RuntimeException.class,
+                MethodHandles.dropArguments(WRAP_ARGUMENT_EXCEPTION, 1, handle.type().parameterList()));
+    }
+
+    @SuppressWarnings("unused")
+    private static Object wrapException(Throwable e) throws InvocationTargetException {
+        throw new InvocationTargetException(e);
+    }
+
+    @SuppressWarnings("unused")
+    private static Object wrapArgumentException(RuntimeException e) {
+        throw new IllegalArgumentException("Failed to invoke method: " + e.getMessage(), e);
+    }
+
+    /**
+     * Writes the class file of invokers. It's equivalent to:
+     * <pre>{@code
+     * final class MethodInvoker$Generated implements MethodInvoker {
+     *     public Object invoke(Object target, Object[] args) {
+     *         MethodHandle handle = MethodHandles.classData(lookup, "_", MethodHandle.class);
+     *         return (Object) handle.invokeExact(target, args);
+     *     }
+     * }
+     * }</pre>
+     * where the class data is loaded once by a {@code CONSTANT_Dynamic}. The code has no branches, so no stack map
+     * frames are needed.
+     */
+    private static byte[] invokerClass() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(0xCAFEBABE);
+            out.writeShort(0);
+            out.writeShort(61); // Java 17
+
+            out.writeShort(31); // constant pool count
+            utf8(out, CLASS_NAME);                                          // #1
+            classRef(out, 1);                                               // #2
+            utf8(out, "java/lang/Object");                                  // #3
+            classRef(out, 3);                                               // #4
+            utf8(out, "com/gl/vertx/easyrouting/MethodInvoker");            // #5
+            classRef(out, 5);                                               // #6
+            utf8(out, "<init>");                                            // #7
+            utf8(out, "()V");                                               // #8
+            nameAndType(out, 7, 8);                                         // #9
+            memberRef(out, 10, 4, 9);                                       // #10 Object.<init>
+            utf8(out, "invoke");                                            // #11
+            utf8(out, "(Ljava/lang/Object;[Ljava/lang/Object;)Ljava/lang/Object;"); // #12
+            utf8(out, "Code");                                              // #13
+            utf8(out, "java/lang/invoke/MethodHandles");                    // #14
+            classRef(out, 14);                                              // #15
+            utf8(out, "classData");                                         // #16
+            utf8(out, "(Ljava/lang/invoke/MethodHandles$Lookup;Ljava/lang/String;Ljava/lang/Class;)Ljava/lang/Object;"); // #17
+            nameAndType(out, 16, 17);                                       // #18
+            memberRef(out, 10, 15, 18);                                     // #19 MethodHandles.classData
+            out.writeByte(15);                                              // #20 REF_invokeStatic #19
+            out.writeByte(6);
+            out.writeShort(19);
+            utf8(out, "_");                                                 // #21
+            utf8(out, "Ljava/lang/invoke/MethodHandle;");                   // #22
+            nameAndType(out, 21, 22);                                       // #23
+            out.writeByte(17);                                              // #24 Dynamic, bootstrap method 0
+            out.writeShort(0);
+            out.writeShort(23);
+            utf8(out, "java/lang/invoke/MethodHandle");                     // #25
+            classRef(out, 25);                                              // #26
+            utf8(out, "invokeExact");                                       // #27
+            nameAndType(out, 27, 12);                                       // #28
+            memberRef(out, 10, 26, 28);                                     // #29 MethodHandle.invokeExact
+            utf8(out, "BootstrapMethods");                                  // #30
+
+            out.writeShort(Modifier.FINAL | 0x0020); // ACC_FINAL | ACC_SUPER
+            out.writeShort(2);
+            out.writeShort(4);
+            out.writeShort(1);
+            out.writeShort(6);
+            out.writeShort(0); // fields
+
+            out.writeShort(2); // methods
+            method(out, Modifier.PUBLIC, 7, 8, 1, 1, new byte[]{
+                    0x2a,                   // aload_0
+                    (byte) 0xb7, 0, 10,     // invokespecial Object.<init>
+                    (byte) 0xb1             // return
+            });
+            method(out, Modifier.PUBLIC | Modifier.FINAL, 11, 12, 3, 3, new byte[]{
+                    0x13, 0, 24,            // ldc_w class data
+                    0x2b,                   // aload_1
+                    0x2c,                   // aload_2
+                    (byte) 0xb6, 0, 29,     // invokevirtual MethodHandle.invokeExact
+                    (byte) 0xb0             // areturn
+            });
+
+            out.writeShort(1); // attributes
+            out.writeShort(30);
+            out.writeInt(6);
+            out.writeShort(1);
+            out.writeShort(20);
+            out.writeShort(0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void utf8(DataOutputStream out, String value) throws IOException {
+        out.writeByte(1);
+        out.writeUTF(value);
+    }
+
+    private static void classRef(DataOutputStream out, int name) throws IOException {
+        out.writeByte(7);
+        out.writeShort(name);
+    }
+
+    private static void nameAndType(DataOutputStream out, int name, int descriptor) throws IOException {
+        out.writeByte(12);
+        out.writeShort(name);
+        out.writeShort(descriptor);
+    }
+
+    private static void memberRef(DataOutputStream out, int tag, int owner, int nameAndType) throws IOException {
+        out.writeByte(tag);
+        out.writeShort(owner);
+        out.writeShort(nameAndType);
+    }
+
+    private static void method(DataOutputStream out, int access, int name, int descriptor, int maxStack, int maxLocals,
+                               byte[] code) throws IOException {
+        out.writeShort(access);
+        out.writeShort(name);
+        out.writeShort(descriptor);
+        out.writeShort(1);
+        out.writeShort(13);
+        out.writeInt(12 + code.length);
+        out.writeShort(maxStack);
+        out.writeShort(maxLocals);
+        out.writeInt(code.length);
+        out.write(code);
+        out.writeShort(0); // exception table
+        out.writeShort(0); // attributes
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ *
+ * Copyright 2025 Gregory Ledenev (gregory.ledenev37@gmail.com)
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies
+ * of the Software, and to permit persons to whom the Software is furnished to do
+ * so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * /
+ */
+package com.gl.vertx.easyrouting;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.*;
+
+/**
+ * Binds repeated request parameters ({@code ?id=1&id=2}) and comma-separated values ({@code ?id=1,2}) to arrays and
+ * collections. Elements are parsed in place from parameter values, without splitting them into substrings or building
+ * a JSON tree; values that look like JSON arrays ({@code ?id=[1,2]}) are left for JSON conversion.
+ * <p>
+ * Only numeric and boolean elements are split on commas. String elements are bound from repeated parameters only, as
+ * a comma is a legitimate part of text like {@code ?name=Smith, John}.
+ */
+final class MultiValues {
+    private MultiValues() {
+    }
+
+    /**
+     * Converts values of a request parameter to a parameter type.
+     */
+    @FunctionalInterface
+    interface Converter {
+        /**
+         * Converts values.
+         *
+         * @param values values of a request parameter, none of them is a JSON array
+         * @return a converted value
+         * @throws NumberFormatException if an element can't be parsed
+         */
+        Object convert(List<String> values);
+    }
+
+    /**
+     * Chooses a converter for a parameter type.
+     *
+     * @param type the parameter type
+     * @return a converter, or {@code null} if values of the type can't be bound from multiple values
+     */
+    static Converter converter(Type type) {
+        if (type instanceof Class<?> aClass && aClass.isArray()) {
+            Class<?> componentType = aClass.getComponentType();
+            if (componentType == String.class)
+                return values -> values.toArray(new String[0]);
+            if (componentType == int.class)
+                return values -> {
+                    int[] result = new int[count(values)];
+                    forEachElement(values, (index, value, begin, end) ->
+                            result[index] = Integer.parseInt(value, begin, end, 10));
+                    return result;
+                };
+            if (componentType == long.class)
+                return values -> {
+                    long[] result = new long[count(values)];
+                    forEachElement(values, (index, value, begin, end) ->
+                            result[index] = Long.parseLong(value, begin, end, 10));
+                    return result;
+                };
+            if (componentType == double.class)
+                return values -> {
+                    double[] result = new double[count(values)];
+                    forEachElement(values, (index, value, begin, end) ->
+                            result[index] = Double.parseDouble(value.substring(begin, end)));
+                    return result;
+                };
+            if (componentType == boolean.class)
+                return values -> {
+                    boolean[] result = new boolean[count(values)];
+                    forEachElement(values, (index, value, begin, end) ->
+                            result[index] = parseBoolean(value, begin, end));
+                    return result;
+                };
+
+            ElementParser parser = elementParser(componentType);
+            if (parser != null)
+                return values -> {
+                    Object[] result = (Object[]) Array.newInstance(componentType, count(values));
+                    forEachElement(values, (index, value, begin, end) ->
+                            result[index] = parser.parse(value, begin, end));
+                    return result;
+                };
+        } else if (type instanceof ParameterizedType parameterizedType &&
+                parameterizedType.getRawType() instanceof Class<?> rawType &&
+                parameterizedType.getActualTypeArguments()[0] instanceof Class<?> elementType) {
+            if (elementType == String.class) {
+                if (rawType == List.class || rawType == Collection.class || rawType == Iterable.class)
+                    return ArrayList::new;
+                if (rawType == Set.class)
+                    return LinkedHashSet::new;
+                return null;
+            }
+
+            ElementParser parser = elementParser(elementType);
+            if (parser == null)
+                return null;
+
+            if (rawType == List.class || rawType == Collection.class || rawType == Iterable.class)
+                return values -> {
+                    List<Object> result = new ArrayList<>(count(values));
+                    forEachElement(values, (index, value, begin, end) -> result.add(parser.parse(value, begin, end)));
+                    return result;
+                };
+            if (rawType == Set.class)
+                return values -> {
+                    Set<Object> result = new LinkedHashSet<>();
+                    forEachElement(values, (index, value, begin, end) -> result.add(parser.parse(value, begin, end)));
+                    return result;
+                };
+        }
+
+        return null;
+    }
+
+    /**
+     * Checks whether values should be converted as JSON, which is the case for a single JSON array.
+     *
+     * @param values values of a request parameter
+     * @return {@code true} if values are a JSON array
+     */
+    static boolean isJsonArray(List<String> values) {
+        if (values.size() != 1)
+            return false;
+
+        String value = values.get(0);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (!Character.isWhitespace(c))
+                return c == '[';
+        }
+        return false;
+    }
+
+    private static ElementParser elementParser(Class<?> elementType) {
+        if (elementType == Integer.class)
+            return (value, begin, end) -> Integer.parseInt(value, begin, end, 10);
+        if (elementType == Long.class)
+            return (value, begin, end) -> Long.parseLong(value, begin, end, 10);
+        if (elementType == Double.class)
+            return (value, begin, end) -> Double.parseDouble(value.substring(begin, end));
+        if (elementType == Boolean.class)
+            return MultiValues::parseBoolean;
+        return null;
+    }
+
+    private static boolean parseBoolean(String value, int begin, int end) {
+        return end - begin == 4 && value.regionMatches(true, begin, "true", 0, 4);
+    }
+
+    /**
+     * Counts non-empty comma-separated elements of all values.
+     */
+    private static int count(List<String> values) {
+        int[] count = new int[1];
+        forEachElement(values, (index, value, begin, end) -> count[0]++);
+        return count[0];
+    }
+
+    /**
+     * Calls a consumer for each non-empty comma-separated element of all values, with surrounding whitespace trimmed.
+     */
+    private static void forEachElement(List<String> values, ElementConsumer consumer) {
+        int index = 0;
+        for (String value : values) {
+            int length = value.length();
+            int begin = 0;
+            while (begin <= length) {
+                int end = value.indexOf(',', begin);
+                if (end < 0)
+                    end = length;
+
+                int elementBegin = begin;
+                int elementEnd = end;
+                while (elementBegin < elementEnd && Character.isWhitespace(value.charAt(elementBegin)))
+                    elementBegin++;
+                while (elementEnd > elementBegin && Character.isWhitespace(value.charAt(elementEnd - 1)))
+                    elementEnd--;
+                if (elementBegin < elementEnd)
+                    consumer.accept(index++, value, elementBegin, elementEnd);
+
+                begin = end + 1;
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface ElementParser {
+        Object parse(String value, int begin, int end);
+    }
+
+    @FunctionalInterface
+    private interface ElementConsumer {
+        void accept(int index, String value, int begin, int end);
+    }
+}
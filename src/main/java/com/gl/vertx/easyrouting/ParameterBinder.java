@@ -0,0 +1,178 @@
+/*
+ *
+ * Copyright 2025 Gregory Ledenev (gregory.ledenev37@gmail.com)
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies
+ * of the Software, and to permit persons to whom the Software is furnished to do
+ * so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * /
+ */
+
+package com.gl.vertx.easyrouting;
+
+import com.gl.vertx.easyrouting.annotations.TemplateModel;
+import io.vertx.core.http.Cookie;
+import io.vertx.ext.web.RoutingContext;
+
+import java.lang.reflect.Type;
+import java.util.List;
+
+import static com.gl.vertx.easyrouting.Result.CONTENT_TYPE;
+
+/**
+ * Binds a value of a single handler method parameter. A binder is chosen once per parameter, when a route is set up,
+ * according to the parameter kind and type, so binding arguments for a request doesn't need to inspect parameters
+ * again.
+ */
+@FunctionalInterface
+interface ParameterBinder {
+    /**
+     * Binds a parameter value for a request.
+     *
+     * @param request the request to bind the value for
+     * @return the parameter value
+     */
+    Object bind(BindingRequest request);
+
+    /**
+     * A request to bind handler method arguments for.
+     *
+     * @param handler       the handler processing the request
+     * @param ctx           the routing context
+     * @param arguments     arguments of the request
+     * @param decomposeBody {@code true} if fields of a JSON body should be bound as request parameters
+     * @param body          request body, or {@code null} if the handler method has no body parameter
+     */
+    record BindingRequest(EasyRouting.RoutingContextHandler handler,
+                          RoutingContext ctx,
+                          RequestArguments arguments,
+                          boolean decomposeBody,
+                          Object body) {
+    }
+
+    /**
+     * Creates a binder for a parameter.
+     *
+     * @param parameter the parameter to bind
+     * @return a binder
+     */
+    static ParameterBinder of(HandlerMethod.ParameterInfo parameter) {
+        return switch (parameter.kind()) {
+            case BODY -> request -> request.handler().convertBody(request.ctx().request().getHeader(CONTENT_TYPE),
+                    parameter.genericType(), request.body());
+            case UPLOADS -> request -> request.ctx().fileUploads();
+            case PATH -> request -> request.ctx().normalizedPath();
+            case COOKIE -> request -> {
+                Cookie cookie = request.ctx().request().getCookie(parameter.annotationValue());
+                return cookie != null ? cookie.getValue() : null;
+            };
+            case HEADER -> request -> request.ctx().request().getHeader(parameter.annotationValue());
+            case TEMPLATE_MODEL -> request -> new TemplateModel(request.ctx());
+            case NODE_URI -> request -> null; // null as placeholder; actual values are fetched later
+            case CONTEXT -> BindingRequest::ctx;
+            default -> {
+                if (parameter.isRoutingContext())
+                    yield BindingRequest::ctx;
+                else if (parameter.isThrowable())
+                    yield request -> request.handler().takeExceptionToHandle(request.ctx());
+                else
+                    yield valueBinder(parameter);
+            }
+        };
+    }
+
+    /**
+     * Creates a binder for a parameter. Arrays and collections of strings, numbers and booleans are bound from
+     * repeated and comma-separated request parameters.
+     *
+     * @param parameter the parameter to bind
+     * @return a binder
+     */
+    private static ParameterBinder valueBinder(HandlerMethod.ParameterInfo parameter) {
+        ValueConverter converter = converter(parameter.genericType());
+        MultiValues.Converter multiValueConverter = MultiValues.converter(parameter.genericType());
+        if (multiValueConverter == null)
+            return valueBinder(parameter.name(), parameter.defaultValue(), converter);
+
+        String name = parameter.name();
+        ParameterBinder singleValueBinder = valueBinder(name, parameter.defaultValue(), converter);
+        List<String> defaultValues = parameter.defaultValue() != null ? List.of(parameter.defaultValue()) : null;
+        return request -> {
+            List<String> values = request.arguments().values(name, request.decomposeBody());
+            if (values != null && values.isEmpty())
+                values = defaultValues;
+            // RPC arguments and JSON arrays are converted as before
+            return values == null || MultiValues.isJsonArray(values) ?
+                    singleValueBinder.bind(request) :
+                    multiValueConverter.convert(values);
+        };
+    }
+
+    private static ParameterBinder valueBinder(String name, String defaultValue, ValueConverter converter) {
+        return request -> {
+            Object value = request.arguments().value(name, request.decomposeBody());
+            return converter.convert(value != null ? value : defaultValue, request.handler().getJsonMapping());
+        };
+    }
+
+    /**
+     * Converts a raw parameter value to a parameter type.
+     */
+    @FunctionalInterface
+    interface ValueConverter {
+        Object convert(Object value, JsonMapping jsonMapping);
+    }
+
+    /**
+     * Chooses a converter for a parameter type. Strings and numbers coming from request parameters are converted
+     * directly, other values are converted by
+     * {@link EasyRouting.RoutingContextHandler#convertValue(Object, Type, JsonMapping)}.
+     *
+     * @param type the parameter type
+     * @return a converter
+     */
+    static ValueConverter converter(Type type) {
+        if (type == String.class)
+            return (value, jsonMapping) -> value instanceof CharSequence ?
+                    value.toString() :
+                    convertValue(value, type, jsonMapping);
+        if (type == int.class || type == Integer.class)
+            return (value, jsonMapping) -> value instanceof CharSequence chars ?
+                    Integer.parseInt(chars, 0, chars.length(), 10) :
+                    convertValue(value, type, jsonMapping);
+        if (type == long.class || type == Long.class)
+            return (value, jsonMapping) -> value instanceof CharSequence chars ?
+                    Long.parseLong(chars, 0, chars.length(), 10) :
+                    convertValue(value, type, jsonMapping);
+        if (type == double.class || type == Double.class)
+            return (value, jsonMapping) -> value instanceof String string ?
+                    Double.parseDouble(string) :
+                    convertValue(value, type, jsonMapping);
+        if (type == boolean.class || type == Boolean.class)
+            return (value, jsonMapping) -> value instanceof String string ?
+                    Boolean.parseBoolean(string) :
+                    convertValue(value, type, jsonMapping);
+
+        return (value, jsonMapping) -> convertValue(value, type, jsonMapping);
+    }
+
+    private static Object convertValue(Object value, Type type, JsonMapping jsonMapping) {
+        return EasyRouting.RoutingContextHandler.convertValue(value, type, jsonMapping);
+    }
+}
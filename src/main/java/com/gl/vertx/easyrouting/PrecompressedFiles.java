@@ -0,0 +1,144 @@
+/*
+ *
+ * Copyright 2025 Gregory Ledenev (gregory.ledenev37@gmail.com)
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies
+ * of the Software, and to permit persons to whom the Software is furnished to do
+ * so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * /
+ */
+
+package com.gl.vertx.easyrouting;
+
+import com.gl.vertx.easyrouting.annotations.FileFromFolder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.*;
+import java.util.stream.Stream;
+
+import static com.gl.vertx.easyrouting.ResourceAssets.*;
+
+/**
+ * Precompressed variants of static files served via {@code @FileFromFolder}. A variant is a sibling of a file with a
+ * {@code .br} or {@code .gz} extension, e.g. {@code app.js.gz} for {@code app.js}. Variants can be created at build
+ * time by running {@link #main(String[])}, e.g. with {@code exec-maven-plugin}, or at startup via
+ * {@link Application#precompressStaticFiles()}. Brotli variants are never created here but are served if present, so
+ * they can be produced by external tools.
+ * <p>
+ * A variant is served only if a client accepts its encoding and it is not older than the original file; otherwise the
+ * original file is served.
+ */
+public final class PrecompressedFiles {
+    private static final Logger logger = LoggerFactory.getLogger(PrecompressedFiles.class);
+
+    static final String BROTLI = "br";
+    static final String BROTLI_EXTENSION = ".br";
+    static final String GZIP_EXTENSION = ".gz";
+
+    static final List<Variant> VARIANTS = List.of(
+            new Variant(BROTLI_EXTENSION, BROTLI),
+            new Variant(GZIP_EXTENSION, GZIP));
+
+    private PrecompressedFiles() {
+    }
+
+    /**
+     * Creates missing or outdated gzip variants for compressible files in folders.
+     *
+     * @param args paths of folders to process
+     * @throws IOException if a folder can't be processed
+     */
+    public static void main(String[] args) throws IOException {
+        for (String folder : args)
+            System.out.println(folder + ": " + precompress(Path.of(folder)) + " file(s) precompressed");
+    }
+
+    /**
+     * Creates missing or outdated gzip variants for compressible files in a folder and its subfolders. Files that are
+     * too small or get no smaller after compression are skipped.
+     *
+     * @param folder the folder to process
+     * @return number of created variants
+     * @throws IOException if the folder can't be processed
+     */
+    public static int precompress(Path folder) throws IOException {
+        Objects.requireNonNull(folder);
+
+        int result = 0;
+        try (Stream<Path> files = Files.walk(folder)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                if (precompressFile(file))
+                    result++;
+            }
+        }
+        return result;
+    }
+
+    private static boolean precompressFile(Path file) throws IOException {
+        String fileName = file.getFileName().toString();
+        if (!Files.isRegularFile(file) || fileName.endsWith(GZIP_EXTENSION) || fileName.endsWith(BROTLI_EXTENSION) ||
+                Files.size(file) < MIN_COMPRESSED_SIZE || !isCompressible(Result.getMimeType(fileName)))
+            return false;
+
+        Path gzipFile = file.resolveSibling(fileName + GZIP_EXTENSION);
+        FileTime lastModifiedTime = Files.getLastModifiedTime(file);
+        if (Files.exists(gzipFile) && Files.getLastModifiedTime(gzipFile).compareTo(lastModifiedTime) >= 0)
+            return false;
+
+        byte[] bytes = Files.readAllBytes(file);
+        byte[] compressed = gzip(bytes);
+        if (compressed.length >= bytes.length)
+            return false;
+
+        Files.write(gzipFile, compressed);
+        logger.debug("Precompressed file: " + file);
+        return true;
+    }
+
+    /**
+     * Returns folders of methods annotated with {@link FileFromFolder} in a controller class.
+     *
+     * @param controllerClass the controller class
+     * @return a set of folder paths
+     */
+    static Set<Path> folders(Class<?> controllerClass) {
+        Set<Path> result = new LinkedHashSet<>();
+        for (Method method : controllerClass.getDeclaredMethods()) {
+            FileFromFolder fileFromFolder = method.getAnnotation(FileFromFolder.class);
+            if (fileFromFolder != null)
+                result.add(Path.of(fileFromFolder.value()));
+        }
+        return result;
+    }
+
+    /**
+     * A kind of precompressed variants.
+     *
+     * @param extension extension appended to a file name
+     * @param encoding  content encoding of variants
+     */
+    record Variant(String extension, String encoding) {
+    }
+}
@@ -0,0 +1,400 @@
+/*
+ *
+ * Copyright 2025 Gregory Ledenev (gregory.ledenev37@gmail.com)
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies
+ * of the Software, and to permit persons to whom the Software is furnished to do
+ * so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * /
+ */
+package com.gl.vertx.easyrouting;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.cfg.MapperConfig;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerBase;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.ser.std.BeanSerializerBase;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.util.ClassUtil;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.util.*;
+
+/**
+ * Jackson codecs specialized for Java records. When Jackson builds a serializer or a deserializer for a record, the
+ * record components are bound once to {@link MethodHandle}s of their accessors and of the canonical constructor, so
+ * records are written and read without bean introspection or reflective calls per value. Values are still streamed
+ * through Jackson's parser and generator, so records are read from and written to buffers directly.
+ * <p>
+ * Only plain records are specialized: records with Jackson annotations or mix-ins, generic records and records whose
+ * properties are renamed or filtered by the mapper configuration keep Jackson's own codecs, so the output never
+ * differs.
+ */
+final class RecordCodecs {
+    private static final String JACKSON_PACKAGE = "com.fasterxml.jackson.";
+
+    private RecordCodecs() {
+    }
+
+    /**
+     * Creates a module that installs record codecs into an object mapper.
+     *
+     * @return a module
+     */
+    static Module module() {
+        return new SimpleModule("EasyRoutingRecordCodecs")
+                .setSerializerModifier(new BeanSerializerModifier() {
+                    @Override
+                    public JsonSerializer<?> modifySerializer(SerializationConfig config, BeanDescription beanDesc,
+                                                              JsonSerializer<?> serializer) {
+                        JsonSerializer<?> result = serializer instanceof BeanSerializerBase beanSerializer ?
+                                RecordSerializer.of(config, beanDesc, beanSerializer) :
+                                null;
+                        return result != null ? result : serializer;
+                    }
+                })
+                .setDeserializerModifier(new BeanDeserializerModifier() {
+                    @Override
+                    public JsonDeserializer<?> modifyDeserializer(DeserializationConfig config,
+                                                                  BeanDescription beanDesc,
+                                                                  JsonDeserializer<?> deserializer) {
+                        JsonDeserializer<?> result = deserializer instanceof BeanDeserializerBase ?
+                                RecordDeserializer.of(config, beanDesc, deserializer) :
+                                null;
+                        return result != null ? result : deserializer;
+                    }
+                });
+    }
+
+    /**
+     * Returns components of a record that can be specialized.
+     *
+     * @return record components, or {@code null} if the record should be handled by Jackson
+     */
+    private static RecordComponent[] components(MapperConfig<?> config, BeanDescription beanDesc) {
+        Class<?> recordClass = beanDesc.getBeanClass();
+        if (!recordClass.isRecord() || recordClass.getTypeParameters().length > 0 ||
+                config.findMixInClassFor(recordClass) != null || config.getDefaultTyper(beanDesc.getType()) != null ||
+                hasJacksonAnnotations(recordClass))
+            return null;
+
+        RecordComponent[] components = recordClass.getRecordComponents();
+        if (components.length > Long.SIZE)
+            return null;
+
+        Set<String> names = new HashSet<>();
+        for (RecordComponent component : components) {
+            if (hasJacksonAnnotations(component) || hasJacksonAnnotations(component.getAccessor()))
+                return null;
+            names.add(component.getName());
+        }
+
+        // naming strategies, ignorals and the like change properties
+        Set<String> propertyNames = new HashSet<>();
+        for (BeanPropertyDefinition property : beanDesc.findProperties())
+            propertyNames.add(property.getName());
+
+        return names.equals(propertyNames) ? components : null;
+    }
+
+    private static boolean hasJacksonAnnotations(AnnotatedElement element) {
+        for (Annotation annotation : element.getDeclaredAnnotations()) {
+            if (annotation.annotationType().getName().startsWith(JACKSON_PACKAGE))
+                return true;
+        }
+        return false;
+    }
+
+    private static MethodHandles.Lookup lookup(Class<?> recordClass) throws IllegalAccessException {
+        return MethodHandles.privateLookupIn(recordClass, MethodHandles.lookup());
+    }
+
+    private static IOException wrap(Throwable e) {
+        if (e instanceof RuntimeException runtimeException)
+            throw runtimeException;
+        if (e instanceof Error error)
+            throw error;
+        return e instanceof IOException ioException ? ioException : new IOException(e);
+    }
+
+    /**
+     * Writes record components in the order of Jackson's bean serializer, calling accessors via method handles.
+     */
+    static final class RecordSerializer extends StdSerializer<Object> implements ResolvableSerializer {
+        private static final long serialVersionUID = 1L;
+
+        private final JsonSerializer<Object> fallback;
+        private final SerializedString[] names;
+        private final MethodHandle[] accessors;
+        private final JavaType[] types;
+        private final JsonSerializer<Object>[] serializers;
+
+        @SuppressWarnings("unchecked")
+        private RecordSerializer(JsonSerializer<?> fallback, SerializedString[] names, MethodHandle[] accessors,
+                                 JavaType[] types) {
+            super(Object.class);
+            this.fallback = (JsonSerializer<Object>) fallback;
+            this.names = names;
+            this.accessors = accessors;
+            this.types = types;
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            JsonSerializer<Object>[] serializers = new JsonSerializer[names.length];
+            this.serializers = serializers;
+        }
+
+        static RecordSerializer of(SerializationConfig config, BeanDescription beanDesc,
+                                   BeanSerializerBase beanSerializer) {
+            RecordComponent[] components = components(config, beanDesc);
+            if (components == null)
+                return null;
+
+            JsonInclude.Include inclusion = config.getDefaultPropertyInclusion(beanDesc.getBeanClass())
+                    .getValueInclusion();
+            if (inclusion != JsonInclude.Include.ALWAYS && inclusion != JsonInclude.Include.USE_DEFAULTS)
+                return null;
+
+            Map<String, RecordComponent> componentsByName = new HashMap<>();
+            for (RecordComponent component : components)
+                componentsByName.put(component.getName(), component);
+
+            try {
+                MethodHandles.Lookup lookup = lookup(beanDesc.getBeanClass());
+                List<SerializedString> names = new ArrayList<>();
+                List<MethodHandle> accessors = new ArrayList<>();
+                List<JavaType> types = new ArrayList<>();
+                for (Iterator<PropertyWriter> it = beanSerializer.properties(); it.hasNext(); ) {
+                    PropertyWriter property = it.next();
+                    RecordComponent component = componentsByName.get(property.getName());
+                    if (component == null)
+                        return null;
+
+                    Method accessor = component.getAccessor();
+                    names.add(new SerializedString(property.getName()));
+                    accessors.add(lookup.unreflect(accessor)
+                            .asType(MethodType.methodType(Object.class, Object.class)));
+                    types.add(config.getTypeFactory().constructType(accessor.getGenericReturnType()));
+                }
+                if (names.size() != components.length)
+                    return null;
+
+                return new RecordSerializer(beanSerializer,
+                        names.toArray(new SerializedString[0]),
+                        accessors.toArray(new MethodHandle[0]),
+                        types.toArray(new JavaType[0]));
+            } catch (IllegalAccessException | RuntimeException e) {
+                return null;
+            }
+        }
+
+        @Override
+        public void resolve(SerializerProvider provider) throws JsonMappingException {
+            if (fallback instanceof ResolvableSerializer resolvableSerializer)
+                resolvableSerializer.resolve(provider);
+
+            // serializers of values that can't be subclassed are found once; others depend on runtime classes
+            for (int i = 0; i < types.length; i++) {
+                if (types[i].isFinal() || types[i].isPrimitive())
+                    serializers[i] = provider.findValueSerializer(types[i], null);
+            }
+        }
+
+        @Override
+        public void serialize(Object value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            for (int i = 0; i < names.length; i++) {
+                Object componentValue;
+                try {
+                    componentValue = (Object) accessors[i].invokeExact(value);
+                } catch (Throwable e) {
+                    throw wrap(e);
+                }
+
+                gen.writeFieldName(names[i]);
+                if (componentValue == null) {
+                    provider.defaultSerializeNull(gen);
+                } else {
+                    JsonSerializer<Object> serializer = serializers[i];
+                    if (serializer == null)
+                        serializer = provider.findValueSerializer(componentValue.getClass());
+                    serializer.serialize(componentValue, gen, provider);
+                }
+            }
+            gen.writeEndObject();
+        }
+
+        @Override
+        public void serializeWithType(Object value, JsonGenerator gen, SerializerProvider provider,
+                                      TypeSerializer typeSerializer) throws IOException {
+            fallback.serializeWithType(value, gen, provider, typeSerializer);
+        }
+    }
+
+    /**
+     * Reads record components by their names and creates records by the canonical constructor, called via a method
+     * handle. Values that are not JSON objects are read by Jackson's bean deserializer.
+     */
+    static final class RecordDeserializer extends StdDeserializer<Object> implements ResolvableDeserializer {
+        private static final long serialVersionUID = 1L;
+
+        private final JsonDeserializer<Object> fallback;
+        private final String[] names;
+        private final Map<String, Integer> indexes;
+        private final JavaType[] types;
+        private final MethodHandle constructor;
+        private final JsonDeserializer<Object>[] deserializers;
+
+        @SuppressWarnings("unchecked")
+        private RecordDeserializer(Class<?> recordClass, JsonDeserializer<?> fallback, String[] names,
+                                   JavaType[] types, MethodHandle constructor) {
+            super(recordClass);
+            this.fallback = (JsonDeserializer<Object>) fallback;
+            this.names = names;
+            this.types = types;
+            this.constructor = constructor;
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            JsonDeserializer<Object>[] deserializers = new JsonDeserializer[names.length];
+            this.deserializers = deserializers;
+
+            Map<String, Integer> indexes = new HashMap<>();
+            for (int i = 0; i < names.length; i++)
+                indexes.put(names[i], i);
+            this.indexes = indexes;
+        }
+
+        static RecordDeserializer of(DeserializationConfig config, BeanDescription beanDesc,
+                                     JsonDeserializer<?> deserializer) {
+            RecordComponent[] components = components(config, beanDesc);
+            if (components == null || config.isEnabled(MapperFeature.ACCEPT_CASE_INSENSITIVE_PROPERTIES))
+                return null;
+
+            Class<?> recordClass = beanDesc.getBeanClass();
+            String[] names = new String[components.length];
+            JavaType[] types = new JavaType[components.length];
+            Class<?>[] parameterTypes = new Class<?>[components.length];
+            for (int i = 0; i < components.length; i++) {
+                names[i] = components[i].getName();
+                types[i] = config.getTypeFactory().constructType(components[i].getGenericType());
+                parameterTypes[i] = components[i].getType();
+            }
+
+            try {
+                Constructor<?> canonicalConstructor = recordClass.getDeclaredConstructor(parameterTypes);
+                if (hasJacksonAnnotations(canonicalConstructor))
+                    return null;
+
+                MethodHandle constructor = lookup(recordClass).unreflectConstructor(canonicalConstructor);
+                constructor = constructor.asType(constructor.type().generic())
+                        .asSpreader(Object[].class, components.length);
+                return new RecordDeserializer(recordClass, deserializer, names, types, constructor);
+            } catch (NoSuchMethodException | IllegalAccessException | RuntimeException e) {
+                return null;
+            }
+        }
+
+        @Override
+        public void resolve(DeserializationContext ctxt) throws JsonMappingException {
+            if (fallback instanceof ResolvableDeserializer resolvableDeserializer)
+                resolvableDeserializer.resolve(ctxt);
+
+            for (int i = 0; i < types.length; i++)
+                deserializers[i] = ctxt.findContextualValueDeserializer(types[i], null);
+        }
+
+        @Override
+        public Object deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            JsonToken token = p.currentToken();
+            if (token == JsonToken.START_OBJECT)
+                token = p.nextToken();
+            else if (token != JsonToken.FIELD_NAME)
+                return fallback.deserialize(p, ctxt);
+
+            Object[] args = new Object[names.length];
+            long present = 0L;
+            for (; token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+                String name = p.currentName();
+                JsonToken valueToken = p.nextToken();
+                Integer index = indexes.get(name);
+                if (index == null) {
+                    handleUnknownProperty(p, ctxt, handledType(), name);
+                    continue;
+                }
+
+                JsonDeserializer<Object> deserializer = deserializers[index];
+                args[index] = valueToken == JsonToken.VALUE_NULL ?
+                        deserializer.getNullValue(ctxt) :
+                        deserializer.deserialize(p, ctxt);
+                present |= 1L << index;
+            }
+
+            for (int i = 0; i < args.length; i++) {
+                if ((present & (1L << i)) == 0) {
+                    if (ctxt.isEnabled(DeserializationFeature.FAIL_ON_MISSING_CREATOR_PROPERTIES))
+                        return ctxt.reportInputMismatch(this, "Missing required creator property '%s'", names[i]);
+                    args[i] = deserializers[i].getAbsentValue(ctxt);
+                    if (args[i] == null && types[i].isPrimitive())
+                        args[i] = ClassUtil.defaultValue(types[i].getRawClass());
+                }
+            }
+
+            if (ctxt.isEnabled(DeserializationFeature.FAIL_ON_NULL_CREATOR_PROPERTIES)) {
+                for (int i = 0; i < args.length; i++) {
+                    if (args[i] == null)
+                        return ctxt.reportInputMismatch(this,
+                                "Null value for creator property '%s' (index %d); `DeserializationFeature.FAIL_ON_NULL_CREATOR_PROPERTIES` enabled",
+                                names[i], i);
+                }
+            }
+
+            try {
+                return (Object) constructor.invokeExact(args);
+            } catch (Throwable e) {
+                return ctxt.handleInstantiationProblem(handledType(), args, e);
+            }
+        }
+
+        @Override
+        public Object deserializeWithType(JsonParser p, DeserializationContext ctxt,
+                                          TypeDeserializer typeDeserializer) throws IOException {
+            return fallback.deserializeWithType(p, ctxt, typeDeserializer);
+        }
+    }
+}
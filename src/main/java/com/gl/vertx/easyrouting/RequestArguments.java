@@ -0,0 +1,165 @@
+/*
+ *
+ * Copyright 2025 Gregory Ledenev (gregory.ledenev37@gmail.com)
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies
+ * of the Software, and to permit persons to whom the Software is furnished to do
+ * so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * /
+ */
+
+package com.gl.vertx.easyrouting;
+
+import io.vertx.core.MultiMap;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.RoutingContext;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.gl.vertx.easyrouting.Result.CONTENT_TYPE;
+import static com.gl.vertx.easyrouting.Result.CT_APPLICATION_JSON;
+
+/**
+ * A per-request view of handler method arguments. It merges request parameters (query and form parameters), fields
+ * of a decomposed JSON body and RPC arguments. Merged views are built lazily, at most once per request, and are
+ * shared by handler method resolution and argument binding. Request parameters themselves are never modified.
+ */
+final class RequestArguments {
+    private static final String KEY_REQUEST_ARGUMENTS = "easyRoutingRequestArguments";
+
+    private final RoutingContext ctx;
+    private final RpcContext rpcContext;
+    private MultiMap decomposedParameters;
+    private MultiMap parameterNames;
+    private MultiMap decomposedParameterNames;
+
+    private RequestArguments(RoutingContext ctx, RpcContext rpcContext) {
+        this.ctx = ctx;
+        this.rpcContext = rpcContext;
+    }
+
+    /**
+     * Returns arguments of a request. Arguments are created once per request and cached in the routing context.
+     *
+     * @param ctx the routing context
+     * @return request arguments
+     */
+    static RequestArguments of(RoutingContext ctx) {
+        RpcContext rpcContext = RpcContext.getRpcContext(ctx);
+        RequestArguments result = ctx.get(KEY_REQUEST_ARGUMENTS);
+        if (result == null || result.rpcContext != rpcContext) {
+            result = new RequestArguments(ctx, rpcContext);
+            ctx.put(KEY_REQUEST_ARGUMENTS, result);
+        }
+        return result;
+    }
+
+    /**
+     * Returns RPC context of the request.
+     *
+     * @return RPC context, or {@code null} if it is not an RPC call
+     */
+    RpcContext rpcContext() {
+        return rpcContext;
+    }
+
+    /**
+     * Returns request parameters to bind handler method arguments from.
+     *
+     * @param decomposeBody {@code true} to add fields of a JSON body to request parameters
+     * @return case-insensitive request parameters
+     */
+    MultiMap parameters(boolean decomposeBody) {
+        if (!decomposeBody)
+            return ctx.request().params();
+
+        if (decomposedParameters == null) {
+            decomposedParameters = MultiMap.caseInsensitiveMultiMap().addAll(ctx.request().params());
+            addJsonBodyFields(decomposedParameters);
+        }
+        return decomposedParameters;
+    }
+
+    /**
+     * Returns names of all arguments, including RPC arguments, to match handler methods against.
+     *
+     * @param decomposeBody {@code true} to include fields of a JSON body
+     * @return case-insensitive parameters; values of RPC arguments are empty
+     */
+    MultiMap parameterNames(boolean decomposeBody) {
+        if (rpcContext == null)
+            return parameters(decomposeBody);
+
+        if (decomposeBody) {
+            if (decomposedParameterNames == null)
+                decomposedParameterNames = addRpcArgumentNames(parameters(true));
+            return decomposedParameterNames;
+        }
+
+        if (parameterNames == null)
+            parameterNames = addRpcArgumentNames(parameters(false));
+        return parameterNames;
+    }
+
+    /**
+     * Returns a value of an argument. RPC arguments take precedence over request parameters.
+     *
+     * @param name          name of the argument
+     * @param decomposeBody {@code true} to look up fields of a JSON body as well
+     * @return a value of the argument, or {@code null} if there is no such argument
+     */
+    Object value(String name, boolean decomposeBody) {
+        Object result = rpcContext != null ? rpcContext.getRpcRequest().getArguments().get(name) : null;
+        return result != null ? result : parameters(decomposeBody).get(name);
+    }
+
+    /**
+     * Returns all values of a repeated request parameter.
+     *
+     * @param name          name of the argument
+     * @param decomposeBody {@code true} to look up fields of a JSON body as well
+     * @return values of the parameter; empty if there is no such parameter, or {@code null} if there is an RPC
+     * argument with that name, which should be read by {@link #value(String, boolean)}
+     */
+    List<String> values(String name, boolean decomposeBody) {
+        if (rpcContext != null && rpcContext.getRpcRequest().getArguments().get(name) != null)
+            return null;
+        return parameters(decomposeBody).getAll(name);
+    }
+
+    private MultiMap addRpcArgumentNames(MultiMap parameters) {
+        MultiMap result = MultiMap.caseInsensitiveMultiMap().addAll(parameters);
+        for (Map.Entry<String, Object> entry : rpcContext.getRpcRequest().getArguments().entrySet())
+            result.add(entry.getKey(), ""); // put empty value just to populate parameter name
+        return result;
+    }
+
+    private void addJsonBodyFields(MultiMap parameters) {
+        if (CT_APPLICATION_JSON.equalsIgnoreCase(ctx.request().headers().get(CONTENT_TYPE))) {
+            JsonObject jsonBody = ctx.body().asJsonObject();
+            if (jsonBody != null) {
+                for (Map.Entry<String, Object> entry : jsonBody) {
+                    if (entry.getValue() != null)
+                        parameters.add(entry.getKey(), entry.getValue().toString());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ *
+ * Copyright 2025 Gregory Ledenev (gregory.ledenev37@gmail.com)
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies
+ * of the Software, and to permit persons to whom the Software is furnished to do
+ * so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * /
+ */
+
+package com.gl.vertx.easyrouting;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32;
+import java.util.zip.GZIPOutputStream;
+
+import static com.gl.vertx.easyrouting.Result.*;
+
+/**
+ * A bounded in-memory cache of classpath assets served via {@code @FileFromResource}. An asset is read once, off the
+ * event loop, and kept as raw bytes along with its gzip variant, {@code ETag} and MIME type. A variant to send is
+ * chosen by the {@code Accept-Encoding} header.
+ */
+final class ResourceAssets {
+    private static final Logger logger = LoggerFactory.getLogger(ResourceAssets.class);
+
+    static final String ACCEPT_ENCODING = "accept-encoding";
+    static final String CONTENT_ENCODING = "content-encoding";
+    static final String VARY = "vary";
+    static final String GZIP = "gzip";
+
+    private static final int MAX_ASSETS = 512;
+    private static final int MAX_ASSET_SIZE = 1024 * 1024;
+    static final int MIN_COMPRESSED_SIZE = 256;
+
+    private static final AtomicInteger assetCount = new AtomicInteger();
+    private static final ClassValue<Map<String, Asset>> assets = new ClassValue<>() {
+        @Override
+        protected Map<String, Asset> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private ResourceAssets() {
+    }
+
+    /**
+     * Returns an asset for a resource. A cached asset is returned immediately; otherwise the resource is read on a
+     * worker thread and cached if the cache is not full.
+     *
+     * @param vertx the Vert.x instance used to read the resource
+     * @param clazz the class used to locate the resource
+     * @param file  the name of the resource
+     * @return a future with the asset, or with {@code null} if there is no such resource
+     */
+    static Future<Asset> get(Vertx vertx, Class<?> clazz, String file) {
+        Map<String, Asset> classAssets = assets.get(clazz);
+        Asset asset = classAssets.get(file);
+        if (asset != null)
+            return Future.succeededFuture(asset);
+
+        return vertx.executeBlocking(() -> {
+            Asset result = load(clazz, file);
+            if (result != null && result.content().length() <= MAX_ASSET_SIZE && assetCount.get() < MAX_ASSETS &&
+                    classAssets.putIfAbsent(file, result) == null)
+                assetCount.incrementAndGet();
+            return result;
+        }, false);
+    }
+
+    static Asset load(Class<?> clazz, String file) throws IOException {
+        byte[] bytes;
+        try (InputStream in = clazz.getResourceAsStream(file)) {
+            if (in == null)
+                return null;
+            bytes = in.readAllBytes();
+        }
+
+        String mimeType = getMimeType(file);
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        String tag = Integer.toHexString(bytes.length) + "-" + Long.toHexString(crc.getValue());
+
+        Buffer gzipContent = null;
+        if (bytes.length >= MIN_COMPRESSED_SIZE && isCompressible(mimeType)) {
+            byte[] compressed = gzip(bytes);
+            if (compressed.length < bytes.length)
+                gzipContent = Buffer.buffer(compressed);
+        }
+
+        logger.debug("Loaded resource asset: " + file + " (" + bytes.length + " bytes)");
+        return new Asset(Buffer.buffer(bytes), gzipContent, "\"" + tag + "\"",
+                gzipContent != null ? "\"" + tag + "-" + GZIP + "\"" : null, mimeType);
+    }
+
+    static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    static boolean isCompressible(String mimeType) {
+        return mimeType.startsWith("text/") ||
+                mimeType.endsWith("json") ||
+                mimeType.endsWith("xml") ||
+                mimeType.endsWith("javascript") ||
+                mimeType.equals("image/svg+xml");
+    }
+
+    /**
+     * Checks whether an {@code Accept-Encoding} header accepts an encoding, i.e. lists it or {@code *} with a
+     * non-zero quality.
+     */
+    static boolean acceptsEncoding(String acceptEncoding, String encoding) {
+        if (acceptEncoding == null)
+            return false;
+
+        for (String coding : acceptEncoding.split(",")) {
+            int paramsIndex = coding.indexOf(';');
+            String name = (paramsIndex >= 0 ? coding.substring(0, paramsIndex) : coding).trim();
+            if (name.equalsIgnoreCase(encoding) || name.equals("*"))
+                return paramsIndex < 0 || !coding.substring(paramsIndex + 1).replace(" ", "").matches("q=0(\\.0*)?");
+        }
+        return false;
+    }
+
+    /**
+     * Cached classpath asset.
+     *
+     * @param content     raw content
+     * @param gzipContent gzip-compressed content, or {@code null} if the asset is not worth compressing
+     * @param etag        strong entity tag computed from the content
+     * @param gzipEtag    strong entity tag of the gzip variant, or {@code null} if there is no such variant; strong
+     *                    tags of representations with different content encodings must differ
+     * @param mimeType    MIME type of the asset
+     */
+    record Asset(Buffer content, Buffer gzipContent, String etag, String gzipEtag, String mimeType) {
+        /**
+         * Sends the asset. The gzip variant is chosen if the client accepts it. A conditional request with an
+         * {@code If-None-Match} header matching the tag of either variant is answered with 304, as both are current.
+         *
+         * @param ctx the routing context
+         */
+        void send(RoutingContext ctx) {
+            HttpServerResponse response = ctx.response();
+            boolean gzip = gzipContent != null && acceptsEncoding(ctx.request().getHeader(ACCEPT_ENCODING), GZIP);
+            response.putHeader(ETAG, gzip ? gzipEtag : etag);
+            if (gzipContent != null)
+                response.putHeader(VARY, ACCEPT_ENCODING);
+
+            String ifNoneMatch = ctx.request().getHeader(IF_NONE_MATCH);
+            if (isNotModified(ifNoneMatch, null, etag, 0) ||
+                    (gzipEtag != null && isNotModified(ifNoneMatch, null, gzipEtag, 0))) {
+                response.setStatusCode(304).end();
+                return;
+            }
+
+            response.putHeader(CONTENT_TYPE, mimeType);
+            if (gzip) {
+                response.putHeader(CONTENT_ENCODING, GZIP);
+                response.end(gzipContent.slice());
+            } else {
+                response.end(content.slice());
+            }
+        }
+    }
+}
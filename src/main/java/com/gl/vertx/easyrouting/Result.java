@@ -28,6 +28,8 @@ import com.gl.vertx.easyrouting.annotations.*;
 import io.vertx.circuitbreaker.CircuitBreaker;
 import io.vertx.core.Future;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerResponse;
 import io.vertx.core.http.MimeMapping;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
@@ -44,14 +46,17 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.annotation.Annotation;
-import java.lang.reflect.Method;
 import java.net.FileNameMap;
 import java.net.URI;
 import java.net.URLConnection;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
 import java.text.MessageFormat;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.*;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
@@ -67,10 +72,16 @@ import static com.gl.vertx.easyrouting.EasyRouting.REDIRECT;
 public class Result<T> {
     public static final String CONTENT_TYPE = "content-type";
     public static final String CONTENT_DISPOSITION = "content-disposition";
+    public static final String ETAG = "etag";
+    public static final String LAST_MODIFIED = "last-modified";
+    public static final String IF_NONE_MATCH = "if-none-match";
+    public static final String IF_MODIFIED_SINCE = "if-modified-since";
     public static final String CT_TEXT_PLAIN = "text/plain";
     public static final String CT_TEXT_HTML = "text/html";
     public static final String CT_APPLICATION_JSON = "application/json";
     public static final String CT_APPLICATION_OCTET_STREAM = "application/octet-stream";
+    public static final String CT_APPLICATION_CBOR = "application/cbor";
+    public static final String CT_APPLICATION_SMILE = "application/x-jackson-smile";
     public static final String ROOT_PATH = "/";
     public static final String PARENT_PATH = "..";
     static final String INDEX_HTML = "index.html";
@@ -273,6 +284,8 @@ public class Result<T> {
     /**
      * Creates a HandlerResult for sending a file from a class resource. This method attempts to load a file from the
      * resources associated with the specified class. If the requested name is "/", it defaults to "index.html".
+     * Resources are read once and cached in memory along with their gzip variants, which are sent to clients that
+     * accept gzip encoding.
      *
      * @param clazz The class used to locate the resource
      * @param name  The name/path of the resource to load
@@ -292,19 +305,29 @@ public class Result<T> {
         else
             file = name.substring(name.lastIndexOf(ROOT_PATH) + 1);
 
-        try (InputStream in = clazz.getResourceAsStream(file)) {
-            if (in != null)
-                return Result.file(new String(in.readAllBytes()), file);
-            else
-                return fileNotFound(file);
-        } catch (IOException e) {
-            return failedToReadFile(file);
-        }
+        return new Result<>(file) {
+            @Override
+            public void defaultHandle(RoutingContext ctx) {
+                ResourceAssets.get(ctx.vertx(), clazz, file).onComplete((asset, ex) -> {
+                    if (ex != null) {
+                        logger.error("Failed to read resource: " + file, ex);
+                        failedToReadFile(file).defaultHandle(ctx);
+                    } else if (asset == null) {
+                        fileNotFound(file).defaultHandle(ctx);
+                    } else {
+                        asset.send(ctx);
+                    }
+                });
+            }
+        };
     }
 
     /**
      * Creates a HandlerResult for sending a file from a specified folder. This method attempts to load a file from the
-     * given folder path. If the requested name is "/", it defaults to "index.html".
+     * given folder path. If the requested name is "/", it defaults to "index.html". Files that are not processed by a
+     * template engine are sent as is with {@code ETag} and {@code Last-Modified} headers, and conditional requests
+     * for unmodified files are answered with 304 status. Metadata and contents of such files are cached until the
+     * files change.
      *
      * @param folder The base folder path where the file should be loaded from
      * @param name   The name/path of the file to load
@@ -312,6 +335,37 @@ public class Result<T> {
      * not found, or file content if successful
      */
     public static Result<?> fileFromFolder(Path folder, String name, TemplateEngine templateEngine) {
+        return fileFromFolder(folder, name, templateEngine, false);
+    }
+
+    /**
+     * Creates a HandlerResult for sending a file from a specified folder, optionally processed by a template engine.
+     *
+     * @param folder         The base folder path where the file should be loaded from
+     * @param name           The name/path of the file to load
+     * @param templateEngine template engine to process the file; {@code null} to send the file as is
+     * @param cacheRendered  {@code true} to cache output rendered by the template engine per template model
+     * @return HandlerResult configured for file response
+     * @see #fileFromFolder(Path, String, TemplateEngine)
+     */
+    public static Result<?> fileFromFolder(Path folder, String name, TemplateEngine templateEngine, boolean cacheRendered) {
+        return fileFromFolder(folder, name, templateEngine, cacheRendered, false);
+    }
+
+    /**
+     * Creates a HandlerResult for sending a file from a specified folder, optionally processed by a template engine.
+     *
+     * @param folder         The base folder path where the file should be loaded from
+     * @param name           The name/path of the file to load
+     * @param templateEngine template engine to process the file; {@code null} to send the file as is
+     * @param cacheRendered  {@code true} to cache output rendered by the template engine per template model
+     * @param stream         {@code true} to send output in chunks while it is rendered, if the template engine supports
+     *                       that and output is not cached
+     * @return HandlerResult configured for file response
+     * @see #fileFromFolder(Path, String, TemplateEngine)
+     */
+    public static Result<?> fileFromFolder(Path folder, String name, TemplateEngine templateEngine, boolean cacheRendered,
+                                           boolean stream) {
         Objects.requireNonNull(folder);
         Objects.requireNonNull(name);
 
@@ -325,31 +379,87 @@ public class Result<T> {
             file = name.substring(name.lastIndexOf(ROOT_PATH) + 1);
 
         Path filePath = folder.resolve(file);
-        try {
-            if (Files.exists(filePath)) {
-                if (templateEngine == null)
-                    return Result.file(Files.readString(filePath), file);
-                else
-                    return new Result<>(filePath) {
-                        @Override
-                        public void defaultHandle(RoutingContext ctx) {
-                            templateEngine.render(ctx.data(), filePath.toAbsolutePath().toString()).
-                                    onComplete((buffer, ex) -> {
-                                        if (ex == null) {
-                                            Result.file(buffer.toString(), file).defaultHandle(ctx);
-                                        } else {
-                                            ctx.response().setStatusCode(500).end("Failed to process template: " + filePath + ex.getMessage());
-                                            logger.error("Failed to process template: " + filePath, ex);
-                                        }
-                                    });
-                        }
-                    };
-            } else {
-                return fileNotFound(file);
+        return new Result<>(filePath) {
+            @Override
+            public void defaultHandle(RoutingContext ctx) {
+                if (templateEngine == null) {
+                    StaticFileCache.of(folder).get(ctx.vertx(), filePath)
+                            .onSuccess(staticFile -> {
+                                if (staticFile == StaticFileCache.MISSING)
+                                    fileNotFound(file).defaultHandle(ctx);
+                                else
+                                    staticFile.send(ctx);
+                            })
+                            .onFailure(ex -> {
+                                logger.error("Failed to read file: " + filePath, ex);
+                                failedToReadFile(file).defaultHandle(ctx);
+                            });
+                    return;
+                }
+
+                // file metadata is read asynchronously, so the event loop is not blocked
+                ctx.vertx().fileSystem().props(filePath.toString())
+                        .onSuccess(props -> {
+                            if (!props.isRegularFile())
+                                fileNotFound(file).defaultHandle(ctx);
+                            else if (stream && !cacheRendered && StreamingTemplates.canStream(templateEngine))
+                                StreamingTemplates.render(ctx, templateEngine, filePath, getMimeType(file));
+                            else
+                                renderTemplate(ctx, templateEngine, filePath, file, props.lastModifiedTime(), cacheRendered);
+                        })
+                        .onFailure(ex -> {
+                            if (ex instanceof NoSuchFileException || ex.getCause() instanceof NoSuchFileException) {
+                                fileNotFound(file).defaultHandle(ctx);
+                            } else {
+                                logger.error("Failed to read file: " + filePath, ex);
+                                failedToReadFile(file).defaultHandle(ctx);
+                            }
+                        });
+            }
+        };
+    }
+
+    private static void renderTemplate(RoutingContext ctx, TemplateEngine templateEngine, Path filePath, String file,
+                                       long lastModifiedTime, boolean cacheRendered) {
+        TemplateCache.render(templateEngine, ctx, filePath, lastModifiedTime, cacheRendered).
+                onComplete((buffer, ex) -> {
+                    if (ex == null) {
+                        ctx.response().putHeader(CONTENT_TYPE, getMimeType(file));
+                        ctx.response().end(buffer);
+                    } else {
+                        ctx.response().setStatusCode(500).end("Failed to process template: " + filePath + ex.getMessage());
+                        logger.error("Failed to process template: " + filePath, ex);
+                    }
+                });
+    }
+
+    private static String opaqueTag(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+
+    static boolean isNotModified(String ifNoneMatch, String ifModifiedSince, String etag, long lastModifiedSeconds) {
+        // If-None-Match takes precedence over If-Modified-Since
+        if (ifNoneMatch != null) {
+            // If-None-Match uses weak comparison
+            String opaqueTag = opaqueTag(etag);
+            for (String tag : ifNoneMatch.split(",")) {
+                tag = tag.trim();
+                if (tag.equals("*") || opaqueTag(tag).equals(opaqueTag))
+                    return true;
+            }
+            return false;
+        }
+
+        if (ifModifiedSince != null) {
+            try {
+                long since = ZonedDateTime.parse(ifModifiedSince, DateTimeFormatter.RFC_1123_DATE_TIME).toEpochSecond();
+                return lastModifiedSeconds <= since;
+            } catch (DateTimeParseException e) {
+                return false;
             }
-        } catch (IOException e) {
-            return failedToReadFile(file);
         }
+
+        return false;
     }
 
     /**
@@ -511,32 +621,19 @@ public class Result<T> {
         this.statusCode = statusCode;
     }
 
-    void setup(EasyRoutingContext context, Method method) {
+    void setup(EasyRoutingContext context, HandlerMethod handlerMethod) {
         this.easyRoutingContext = context;
 
         if (context != null)
             setTemplateEngine(context.getTemplateEngine());
 
-        setResultClass(method.getReturnType());
-        setAnnotations(method.getAnnotations());
-        applyHttpHeaders(method);
+        setResultClass(handlerMethod.returnType());
+        setAnnotations(handlerMethod.annotations());
+        applyHttpHeaders(handlerMethod);
     }
 
-    private void applyHttpHeaders(Method method) {
-        HttpHeaders headers = method.getAnnotation(HttpHeaders.class);
-        if (headers != null) {
-            for (HttpHeader header : headers.value()) {
-                String[] headerParts = header.value().split(":");
-                if (headerParts.length == 2)
-                    putHeader(headerParts[0].trim(), headerParts[1].trim());
-                else
-                    logger.warn("Invalid header definition: " + header.value());
-            }
-        }
-
-        ContentType contentType = method.getAnnotation(ContentType.class);
-        if (contentType != null)
-            putHeader(CONTENT_TYPE, contentType.value());
+    private void applyHttpHeaders(HandlerMethod handlerMethod) {
+        handlerMethod.httpHeaders().forEach(this::putHeader);
     }
 
     /**
@@ -590,18 +687,17 @@ public class Result<T> {
                             .onSuccess(v -> ctx.response())
                             .onFailure(ctx::fail);
                 } else if (result instanceof Buffer buffer) {
-                    ctx.response().putHeader(CONTENT_TYPE, CT_APPLICATION_OCTET_STREAM);
+                    // keep a content type of encoded results, e.g., application/cbor
+                    if (!ctx.response().headers().contains(CONTENT_TYPE))
+                        ctx.response().putHeader(CONTENT_TYPE, CT_APPLICATION_OCTET_STREAM);
                     ctx.response().send(buffer);
                 } else if (result instanceof JsonObject jsonObject) {
-                    sendJsonResponse(ctx, jsonObject.encode());
+                    sendJsonResponse(ctx, jsonObject.toBuffer());
                 } else if (result instanceof JsonArray jsonArray) {
-                    sendJsonResponse(ctx, jsonArray.encode());
-                } else if (result instanceof Map<?, ?> map) {
-                    handleMapResult(ctx, map);
-                } else if (result instanceof Collection<?> collection) {
-                    handleCollectionResult(ctx, collection);
-                } else if (result != null && result.getClass().isArray()) {
-                    handleArrayResult(ctx, result);
+                    sendJsonResponse(ctx, jsonArray.toBuffer());
+                } else if (result instanceof Map<?, ?> || result instanceof Collection<?> ||
+                        (result != null && result.getClass().isArray())) {
+                    sendJsonResponse(ctx, getJsonMapping().writeValueAsBuffer(result));
                 } else if (result instanceof Number || result instanceof Boolean) {
                     sendPlainTextResponse(ctx, result.toString());
                 } else if (result instanceof String string) {
@@ -621,6 +717,91 @@ public class Result<T> {
         }
     }
 
+    /**
+     * Encodes the result into a response that can be sent repeatedly, following the rules of
+     * {@link #defaultHandle(RoutingContext)}. Only results that are sent as a single body are encoded.
+     *
+     * @return an encoded response, or {@code null} if the result can't be encoded up front
+     */
+    EncodedResponse encode() {
+        // subclasses, like the ones created by fileFromResource(), override how results are sent
+        if (getClass() != Result.class || handler != null || result == null || result instanceof Future<?> ||
+                result instanceof URI || result instanceof Path)
+            return null;
+
+        Map<String, String> responseHeaders = new LinkedHashMap<>(headers);
+        Buffer body;
+        try {
+            if (result instanceof Buffer buffer) {
+                responseHeaders.putIfAbsent(CONTENT_TYPE, CT_APPLICATION_OCTET_STREAM);
+                body = buffer.copy();
+            } else if (result instanceof JsonObject jsonObject) {
+                responseHeaders.put(CONTENT_TYPE, CT_APPLICATION_JSON);
+                body = jsonObject.toBuffer();
+            } else if (result instanceof JsonArray jsonArray) {
+                responseHeaders.put(CONTENT_TYPE, CT_APPLICATION_JSON);
+                body = jsonArray.toBuffer();
+            } else if (result instanceof Map<?, ?> || result instanceof Collection<?> || result.getClass().isArray()) {
+                responseHeaders.put(CONTENT_TYPE, CT_APPLICATION_JSON);
+                body = getJsonMapping().writeValueAsBuffer(result);
+            } else if (result instanceof Number || result instanceof Boolean) {
+                responseHeaders.put(CONTENT_TYPE, CT_TEXT_PLAIN);
+                body = Buffer.buffer(result.toString());
+            } else if (result instanceof String string) {
+                if (string.startsWith(REDIRECT) || (annotations != null &&
+                        (getAnnotation(FileFromResource.class) != null || getAnnotation(FileFromFolder.class) != null)))
+                    return null;
+                responseHeaders.putIfAbsent(CONTENT_TYPE, CT_TEXT_HTML);
+                body = Buffer.buffer(string);
+            } else if (getJsonMapping().isScalar(result.getClass())) {
+                responseHeaders.put(CONTENT_TYPE, CT_TEXT_PLAIN);
+                body = Buffer.buffer(result.toString());
+            } else {
+                body = getJsonMapping().writeValueAsBuffer(result);
+                if (isJsonObject(body)) {
+                    responseHeaders.put(CONTENT_TYPE, CT_APPLICATION_JSON);
+                } else {
+                    responseHeaders.put(CONTENT_TYPE, CT_TEXT_PLAIN);
+                    body = Buffer.buffer(result.toString());
+                }
+            }
+        } catch (Exception e) {
+            logger.debug("Result is not encoded up front: " + result, e);
+            return null;
+        }
+
+        return EncodedResponse.of(statusCode, responseHeaders, body);
+    }
+
+    /**
+     * A response encoded up front. Header names and values are kept as optimized ASCII strings and the body is sent
+     * as a slice of a shared buffer, so sending the response doesn't encode anything.
+     *
+     * @param statusCode   the HTTP status code
+     * @param headerNames  names of headers
+     * @param headerValues values of headers
+     * @param body         the body
+     */
+    record EncodedResponse(int statusCode, CharSequence[] headerNames, CharSequence[] headerValues, Buffer body) {
+        static EncodedResponse of(int statusCode, Map<String, String> headers, Buffer body) {
+            CharSequence[] headerNames = new CharSequence[headers.size()];
+            CharSequence[] headerValues = new CharSequence[headers.size()];
+            int i = 0;
+            for (Map.Entry<String, String> header : headers.entrySet()) {
+                headerNames[i] = HttpHeaders.createOptimized(header.getKey());
+                headerValues[i++] = HttpHeaders.createOptimized(header.getValue());
+            }
+            return new EncodedResponse(statusCode, headerNames, headerValues, body);
+        }
+
+        void send(RoutingContext ctx) {
+            HttpServerResponse response = ctx.response();
+            for (int i = 0; i < headerNames.length; i++)
+                response.putHeader(headerNames[i], headerValues[i]);
+            response.setStatusCode(statusCode).end(body.slice());
+        }
+    }
+
     private void handleNullResult(RoutingContext ctx) {
         if (annotations != null) {
             for (Annotation annotation : annotations) {
@@ -634,38 +815,21 @@ public class Result<T> {
         ctx.response().end();
     }
 
-    private void sendJsonResponse(RoutingContext ctx, String json) {
+    private void sendJsonResponse(RoutingContext ctx, Buffer json) {
         ctx.response().putHeader(CONTENT_TYPE, CT_APPLICATION_JSON);
         ctx.response().end(json);
     }
 
+    private JsonMapping getJsonMapping() {
+        return easyRoutingContext != null ? easyRoutingContext.getJsonMapping() : JsonMapping.getDefault();
+    }
+
     private void sendPlainTextResponse(RoutingContext ctx, String text) {
         ctx.response()
                 .putHeader(CONTENT_TYPE, CT_TEXT_PLAIN)
                 .end(text);
     }
 
-    private void handleMapResult(RoutingContext ctx, Map<?, ?> map) {
-        JsonObject jsonObject = new JsonObject();
-        map.forEach((key, value) -> jsonObject.put(key.toString(), value));
-        sendJsonResponse(ctx, jsonObject.encode());
-    }
-
-    private void handleCollectionResult(RoutingContext ctx, Collection<?> collection) {
-        JsonArray jsonArray = new JsonArray();
-        collection.forEach(jsonArray::add);
-        sendJsonResponse(ctx, jsonArray.encode());
-    }
-
-    private void handleArrayResult(RoutingContext ctx, Object array) {
-        JsonArray jsonArray = new JsonArray();
-        int length = java.lang.reflect.Array.getLength(array);
-        for (int i = 0; i < length; i++) {
-            jsonArray.add(java.lang.reflect.Array.get(array, i));
-        }
-        sendJsonResponse(ctx, jsonArray.encode());
-    }
-
     private void handleStringResult(RoutingContext ctx, String string) {
         if (string.startsWith(REDIRECT) && string.length() > REDIRECT.length()) {
             String redirectPath = string.substring(REDIRECT.length());
@@ -680,14 +844,14 @@ public class Result<T> {
                         Result.fileFromResource(fileFromResource.value(), string).handle(ctx);
                         return;
                     } else if (annotation instanceof FileFromFolder fileFromFolder) {
-                        String mimeType = getMimeType(string);
-                        boolean processTemplate = templateAnnotation != null &&
-                                (CT_TEXT_HTML.equals(mimeType) || Arrays.asList(templateAnnotation.processMimeTypes()).contains(mimeType));
+                        boolean processTemplate = TemplateCache.isTemplate(templateAnnotation, getMimeType(string));
                         if (processTemplate && templateEngine == null) {
                             logger.error("Skipped processing templateAnnotation: " + string + " No templateAnnotation engine registered with the app.");
                             processTemplate = false;
                         }
-                        Result.fileFromFolder(Path.of(fileFromFolder.value()), string, processTemplate ? templateEngine : null).handle(ctx);
+                        Result.fileFromFolder(Path.of(fileFromFolder.value()), string, processTemplate ? templateEngine : null,
+                                processTemplate && templateAnnotation.cacheRendered(),
+                                processTemplate && templateAnnotation.stream()).handle(ctx);
                         return;
                     }
                 }
@@ -700,13 +864,32 @@ public class Result<T> {
     }
 
     private void handleOtherResult(RoutingContext ctx, Object result) {
+        // only objects are sent as JSON; scalars like enums are sent as plain text
+        if (getJsonMapping().isScalar(result.getClass())) {
+            sendPlainTextResponse(ctx, result.toString());
+            return;
+        }
+        Buffer json;
         try {
-            JsonObject jsonObject = JsonObject.mapFrom(result);
-            sendJsonResponse(ctx, jsonObject.encode());
+            json = getJsonMapping().writeValueAsBuffer(result);
         } catch (Exception e) {
             logger.error("Failed to convert result to JSON: " + result, e);
             sendPlainTextResponse(ctx, result.toString());
+            return;
+        }
+        if (isJsonObject(json))
+            sendJsonResponse(ctx, json);
+        else
+            sendPlainTextResponse(ctx, result.toString());
+    }
+
+    private static boolean isJsonObject(Buffer json) {
+        for (int i = 0; i < json.length(); i++) {
+            byte b = json.getByte(i);
+            if (!Character.isWhitespace(b))
+                return b == '{';
         }
+        return false;
     }
 
     public Annotation[] getAnnotations() {
@@ -0,0 +1,130 @@
+/*
+ *
+ * Copyright 2025 Gregory Ledenev (gregory.ledenev37@gmail.com)
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies
+ * of the Software, and to permit persons to whom the Software is furnished to do
+ * so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * /
+ */
+
+package com.gl.vertx.easyrouting;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.ext.auth.User;
+import io.vertx.ext.web.RoutingContext;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.gl.vertx.easyrouting.JWTUtil.ROLES;
+
+/**
+ * Registry of role names. Roles required by routes are interned into the registry when routes are set up, so sets
+ * of roles can be represented as bitsets: each role gets its own bit. Roles of a principal are decoded into a bitset
+ * once per request, and checking authorization is a bitwise AND of two bitsets.
+ */
+final class RoleRegistry {
+    private static final String KEY_PRINCIPAL_ROLES = "easyRoutingPrincipalRoles";
+    private static final long[] NO_ROLES = new long[0];
+
+    private static final Map<String, Integer> roleIndexes = new ConcurrentHashMap<>();
+
+    private RoleRegistry() {
+    }
+
+    /**
+     * Interns role names and returns them as a bitset.
+     *
+     * @param roles role names
+     * @return a bitset of roles
+     */
+    static synchronized long[] intern(String... roles) {
+        if (roles.length == 0)
+            return NO_ROLES;
+
+        long[] result = NO_ROLES;
+        for (String role : roles) {
+            int index = roleIndexes.computeIfAbsent(role, k -> roleIndexes.size());
+            result = set(result, index);
+        }
+        return result;
+    }
+
+    /**
+     * Returns roles of the current principal as a bitset. Roles that are not required by any route are ignored. The
+     * bitset is decoded once and then cached in the routing context.
+     *
+     * @param ctx the routing context
+     * @return a bitset of roles; empty if there is no principal
+     */
+    static long[] principalRoles(RoutingContext ctx) {
+        User user = ctx.user();
+        if (user == null)
+            return NO_ROLES;
+
+        PrincipalRoles principalRoles = ctx.get(KEY_PRINCIPAL_ROLES);
+        if (principalRoles == null || principalRoles.user() != user) {
+            principalRoles = new PrincipalRoles(user, decode(user.principal().getJsonArray(ROLES, new JsonArray())));
+            ctx.put(KEY_PRINCIPAL_ROLES, principalRoles);
+        }
+        return principalRoles.roles();
+    }
+
+    /**
+     * Checks whether a set of roles contains all required roles.
+     *
+     * @param roles         a bitset of roles
+     * @param requiredRoles a bitset of required roles
+     * @return {@code true} if all required roles are present; {@code false} otherwise
+     */
+    static boolean containsAll(long[] roles, long[] requiredRoles) {
+        for (int i = 0; i < requiredRoles.length; i++) {
+            long word = i < roles.length ? roles[i] : 0L;
+            if ((requiredRoles[i] & ~word) != 0L)
+                return false;
+        }
+        return true;
+    }
+
+    private static long[] decode(JsonArray roles) {
+        long[] result = NO_ROLES;
+        for (int i = 0; i < roles.size(); i++) {
+            Object role = roles.getValue(i);
+            Integer index = role instanceof String ? roleIndexes.get(role) : null;
+            if (index != null)
+                result = set(result, index);
+        }
+        return result;
+    }
+
+    private static long[] set(long[] bits, int index) {
+        int word = index / Long.SIZE;
+        long[] result = bits;
+        if (word >= bits.length) {
+            result = new long[word + 1];
+            System.arraycopy(bits, 0, result, 0, bits.length);
+        }
+        result[word] |= 1L << (index % Long.SIZE);
+        return result;
+    }
+
+    private record PrincipalRoles(User user, long[] roles) {
+    }
+}
@@ -62,7 +62,7 @@ public abstract class RpcContext {
         return contentType;
     }
 
-    private static final String KEY_RPC_CONTEXT = "rpcContext";
+    private static final String KEY_RPC_CONTEXT = "easyRoutingRpcContext";
 
     public static RpcContext getRpcContext(RoutingContext ctx) {
         return ctx.get(KEY_RPC_CONTEXT);
@@ -27,6 +27,7 @@
 package com.gl.vertx.easyrouting;
 
 import com.gl.vertx.easyrouting.annotations.*;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.ext.web.Router;
 import io.vertx.ext.web.RoutingContext;
 
@@ -44,6 +45,7 @@ import java.util.*;
 public class RpcController {
     private final EasyRouting.RoutingContextHandler routingContextHandler;
     private final Object target;
+    private volatile Buffer scheme;
 
     /**
      * Constructs a new RpcController with the specified target object.
@@ -78,10 +80,20 @@ public class RpcController {
         if (rpc != null) {
             router.post(rpc.path()).handler(this::handleRpcRequests);
             if (rpc.provideScheme())
-                router.get(rpc.path()).handler(ctx -> ctx.response().end(getScheme()));
+                router.get(rpc.path()).handler(ctx -> ctx.response().end(getSchemeBuffer().slice()));
         }
     }
 
+    // the scheme depends on the target class only, so it's generated once
+    private Buffer getSchemeBuffer() {
+        Buffer result = scheme;
+        if (result == null) {
+            result = Buffer.buffer(getScheme());
+            scheme = result;
+        }
+        return result;
+    }
+
     /**
      * Generates a Java-like interface scheme for the RPC methods defined in the target object.
      * The generated interface includes method signatures for each RPC method, along with
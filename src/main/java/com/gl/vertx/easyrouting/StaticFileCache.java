@@ -0,0 +1,355 @@
+/*
+ *
+ * Copyright 2025 Gregory Ledenev (gregory.ledenev37@gmail.com)
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies
+ * of the Software, and to permit persons to whom the Software is furnished to do
+ * so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * /
+ */
+
+package com.gl.vertx.easyrouting;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.gl.vertx.easyrouting.ResourceAssets.*;
+import static com.gl.vertx.easyrouting.Result.*;
+
+/**
+ * A cache of static files of a {@code @FileFromFolder} folder. The cache keeps metadata of requested files and
+ * contents of small files within a byte budget, so hot files are served without touching the file system. Missing
+ * files are not cached, so requests for arbitrary nonexistent names can't fill the cache. Entries are invalidated by
+ * a {@link WatchService}, so changes to files show up without a restart. If a folder can't be watched, its files are
+ * read on every request.
+ * <p>
+ * Files are read on worker threads, so the event loop is never blocked.
+ */
+final class StaticFileCache {
+    private static final Logger logger = LoggerFactory.getLogger(StaticFileCache.class);
+
+    private static final int MAX_ENTRIES = 4096;
+    private static final long MAX_CACHED_BYTES = 32L * 1024 * 1024;
+    private static final long MAX_CACHED_FILE_SIZE = 1024 * 1024;
+
+    /**
+     * Marks a missing file.
+     */
+    static final StaticFile MISSING = new StaticFile(null, null, 0, null, List.of(), 0);
+
+    private static final Map<Path, StaticFileCache> caches = new ConcurrentHashMap<>();
+
+    private final Path folder;
+    private final boolean watched;
+    private final Map<Path, StaticFile> files = new ConcurrentHashMap<>();
+    private final AtomicLong cachedBytes = new AtomicLong();
+    private final AtomicLong generation = new AtomicLong();
+
+    private StaticFileCache(Path folder) {
+        this.folder = folder;
+        this.watched = Watcher.register(this);
+    }
+
+    /**
+     * Returns a cache for a folder.
+     *
+     * @param folder the folder
+     * @return a cache
+     */
+    static StaticFileCache of(Path folder) {
+        return caches.computeIfAbsent(folder.toAbsolutePath().normalize(), StaticFileCache::new);
+    }
+
+    /**
+     * Returns a static file. A cached file is returned immediately; otherwise the file is read on a worker thread.
+     *
+     * @param vertx    the Vert.x instance used to read the file
+     * @param filePath path of the file
+     * @return a future with the file, or with {@link #MISSING} if the file does not exist
+     */
+    Future<StaticFile> get(Vertx vertx, Path filePath) {
+        Path key = filePath.toAbsolutePath().normalize();
+        StaticFile file = files.get(key);
+        if (file != null)
+            return Future.succeededFuture(file);
+
+        return vertx.executeBlocking(() -> load(key), false);
+    }
+
+    private StaticFile load(Path key) throws IOException {
+        long loadGeneration = generation.get();
+        boolean cache = watched && files.size() < MAX_ENTRIES;
+
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(key, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            attributes = null;
+        }
+
+        if (attributes == null || !attributes.isRegularFile())
+            return MISSING;
+
+        StaticFile result = load(key, attributes, cache);
+
+        // a file changed while it was loading must not be cached
+        if (cache && generation.get() == loadGeneration && files.putIfAbsent(key, result) == null)
+            return result;
+
+        cachedBytes.addAndGet(-result.cachedBytes());
+        return result;
+    }
+
+    private StaticFile load(Path filePath, BasicFileAttributes attributes, boolean cache) throws IOException {
+        long lastModifiedTime = attributes.lastModifiedTime().toMillis();
+        String fileName = filePath.getFileName().toString();
+        String mimeType = getMimeType(fileName);
+
+        List<Representation> representations = new ArrayList<>();
+        long cachedBytes = 0;
+        if (isCompressible(mimeType)) {
+            for (PrecompressedFiles.Variant variant : PrecompressedFiles.VARIANTS) {
+                Path variantPath = filePath.resolveSibling(fileName + variant.extension());
+                try {
+                    BasicFileAttributes variantAttributes = Files.readAttributes(variantPath, BasicFileAttributes.class);
+                    if (variantAttributes.isRegularFile() &&
+                            variantAttributes.lastModifiedTime().toMillis() >= lastModifiedTime) {
+                        Buffer content = cache ? readContent(variantPath, variantAttributes.size()) : null;
+                        cachedBytes += content != null ? content.length() : 0;
+                        representations.add(new Representation(variantPath.toString(), variant.encoding(), content));
+                    }
+                } catch (NoSuchFileException e) {
+                    // no such variant
+                }
+            }
+        }
+
+        Buffer content = cache ? readContent(filePath, attributes.size()) : null;
+        cachedBytes += content != null ? content.length() : 0;
+        representations.add(new Representation(filePath.toString(), null, content));
+
+        String etag = "W/\"" + Long.toHexString(attributes.size()) + "-" + Long.toHexString(lastModifiedTime) + "\"";
+        long lastModifiedSeconds = lastModifiedTime / 1000;
+        String lastModified = DateTimeFormatter.RFC_1123_DATE_TIME.format(
+                Instant.ofEpochSecond(lastModifiedSeconds).atOffset(ZoneOffset.UTC));
+
+        return new StaticFile(etag, lastModified, lastModifiedSeconds, mimeType, List.copyOf(representations), cachedBytes);
+    }
+
+    private Buffer readContent(Path path, long size) throws IOException {
+        if (size > MAX_CACHED_FILE_SIZE)
+            return null;
+
+        if (cachedBytes.addAndGet(size) > MAX_CACHED_BYTES) {
+            cachedBytes.addAndGet(-size);
+            return null;
+        }
+
+        byte[] bytes = Files.readAllBytes(path);
+        // the file could change after its size was read
+        cachedBytes.addAndGet(bytes.length - size);
+        return Buffer.buffer(bytes);
+    }
+
+    /**
+     * Invalidates a cached file and its precompressed variants.
+     *
+     * @param path the path of a changed file or of its precompressed variant
+     */
+    void invalidate(Path path) {
+        generation.incrementAndGet();
+
+        String fileName = path.getFileName().toString();
+        remove(path);
+        for (PrecompressedFiles.Variant variant : PrecompressedFiles.VARIANTS) {
+            if (fileName.endsWith(variant.extension()))
+                remove(path.resolveSibling(fileName.substring(0, fileName.length() - variant.extension().length())));
+        }
+    }
+
+    /**
+     * Invalidates all cached files.
+     */
+    void clear() {
+        generation.incrementAndGet();
+        for (Path path : files.keySet())
+            remove(path);
+    }
+
+    private void remove(Path path) {
+        StaticFile file = files.remove(path);
+        if (file != null)
+            cachedBytes.addAndGet(-file.cachedBytes());
+    }
+
+    /**
+     * A representation of a static file: the file itself or its precompressed variant.
+     *
+     * @param path     path of the representation
+     * @param encoding content encoding, or {@code null} for the file itself
+     * @param content  cached content, or {@code null} if the content is not cached
+     */
+    record Representation(String path, String encoding, Buffer content) {
+    }
+
+    /**
+     * Cached static file.
+     *
+     * @param etag                weak entity tag computed from file size and modification time
+     * @param lastModified        value of the {@code Last-Modified} header
+     * @param lastModifiedSeconds modification time in seconds
+     * @param mimeType            MIME type of the file
+     * @param representations     precompressed variants in order of preference followed by the file itself
+     * @param cachedBytes         size of cached contents
+     */
+    record StaticFile(String etag, String lastModified, long lastModifiedSeconds, String mimeType,
+                      List<Representation> representations, long cachedBytes) {
+        /**
+         * Sends the file. Conditional requests for a file that is not modified are answered with 304; otherwise the
+         * first representation accepted by the client is sent from memory or via {@code sendFile}, which uses zero-copy
+         * transfer for plain connections.
+         *
+         * @param ctx the routing context
+         */
+        void send(RoutingContext ctx) {
+            HttpServerResponse response = ctx.response();
+            response.putHeader(ETAG, etag);
+            response.putHeader(LAST_MODIFIED, lastModified);
+
+            if (isNotModified(ctx.request().getHeader(IF_NONE_MATCH), ctx.request().getHeader(IF_MODIFIED_SINCE),
+                    etag, lastModifiedSeconds)) {
+                response.setStatusCode(304).end();
+                return;
+            }
+
+            response.putHeader(CONTENT_TYPE, mimeType);
+            if (isCompressible(mimeType))
+                response.putHeader(VARY, ACCEPT_ENCODING);
+
+            String acceptEncoding = ctx.request().getHeader(ACCEPT_ENCODING);
+            Representation representation = representations.get(representations.size() - 1);
+            for (Representation variant : representations) {
+                if (variant.encoding() == null || acceptsEncoding(acceptEncoding, variant.encoding())) {
+                    representation = variant;
+                    break;
+                }
+            }
+
+            if (representation.encoding() != null)
+                response.putHeader(CONTENT_ENCODING, representation.encoding());
+            response.setStatusCode(200);
+            if (representation.content() != null)
+                response.end(representation.content().slice());
+            else
+                response.sendFile(representation.path()).onFailure(ctx::fail);
+        }
+    }
+
+    /**
+     * Watches folders of caches on a single daemon thread and invalidates changed files.
+     */
+    private static final class Watcher implements Runnable {
+        private static final Watcher instance = create();
+
+        private final WatchService watchService;
+        private final Map<WatchKey, StaticFileCache> watchedCaches = new ConcurrentHashMap<>();
+
+        private Watcher(WatchService watchService) {
+            this.watchService = watchService;
+        }
+
+        private static Watcher create() {
+            try {
+                Watcher watcher = new Watcher(FileSystems.getDefault().newWatchService());
+                Thread thread = new Thread(watcher, "easyrouting-static-file-watcher");
+                thread.setDaemon(true);
+                thread.start();
+                return watcher;
+            } catch (IOException | UnsupportedOperationException e) {
+                logger.warn("Static files will not be cached: failed to create watch service", e);
+                return null;
+            }
+        }
+
+        static boolean register(StaticFileCache cache) {
+            if (instance == null)
+                return false;
+
+            try {
+                WatchKey key = cache.folder.register(instance.watchService,
+                        StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_DELETE,
+                        StandardWatchEventKinds.ENTRY_MODIFY);
+                instance.watchedCaches.put(key, cache);
+                return true;
+            } catch (IOException e) {
+                logger.warn("Static files will not be cached: failed to watch folder: " + cache.folder, e);
+                return false;
+            }
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                WatchKey key;
+                try {
+                    key = watchService.take();
+                } catch (InterruptedException | ClosedWatchServiceException e) {
+                    return;
+                }
+
+                StaticFileCache cache = watchedCaches.get(key);
+                if (cache != null) {
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        if (event.kind() == StandardWatchEventKinds.OVERFLOW)
+                            cache.clear();
+                        else
+                            cache.invalidate(cache.folder.resolve((Path) event.context()));
+                    }
+                }
+
+                if (!key.reset()) {
+                    watchedCaches.remove(key);
+                    if (cache != null) {
+                        // the folder is gone, so its files can't be watched any more
+                        cache.clear();
+                        caches.remove(cache.folder, cache);
+                    }
+                }
+            }
+        }
+    }
+}
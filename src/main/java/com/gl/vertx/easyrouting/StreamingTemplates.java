@@ -0,0 +1,142 @@
+/*
+ *
+ * Copyright 2025 Gregory Ledenev (gregory.ledenev37@gmail.com)
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies
+ * of the Software, and to permit persons to whom the Software is furnished to do
+ * so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * /
+ */
+
+package com.gl.vertx.easyrouting;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.common.template.TemplateEngine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.IThrottledTemplateProcessor;
+import org.thymeleaf.context.Context;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+
+import static com.gl.vertx.easyrouting.Result.CONTENT_TYPE;
+
+/**
+ * Renders templates in chunks that are written to a response as soon as they are produced, so the first bytes of a
+ * large page are sent before the whole page is rendered. Each chunk is rendered in a separate event loop task, which
+ * lets written chunks be flushed, and rendering pauses while the response write queue is full.
+ * <p>
+ * Only Thymeleaf engines support throttled rendering; other engines are expected to be used with full rendering.
+ */
+final class StreamingTemplates {
+    private static final Logger logger = LoggerFactory.getLogger(StreamingTemplates.class);
+
+    private static final int CHUNK_SIZE = 8 * 1024;
+    private static final String KEY_LANG = "lang";
+
+    private StreamingTemplates() {
+    }
+
+    /**
+     * Checks whether a template engine supports streaming rendering.
+     *
+     * @param templateEngine the template engine
+     * @return {@code true} if templates can be streamed
+     */
+    static boolean canStream(TemplateEngine templateEngine) {
+        try {
+            return templateEngine.unwrap() instanceof ITemplateEngine;
+        } catch (LinkageError e) {
+            // Thymeleaf is not on the classpath
+            return false;
+        }
+    }
+
+    /**
+     * Renders a template to a response in chunks. The engine must support streaming.
+     *
+     * @param ctx            the routing context holding the template model
+     * @param templateEngine the template engine
+     * @param templatePath   path of the template
+     * @param mimeType       MIME type of the rendered output
+     * @see #canStream(TemplateEngine)
+     */
+    static void render(RoutingContext ctx, TemplateEngine templateEngine, Path templatePath, String mimeType) {
+        ITemplateEngine engine = (ITemplateEngine) templateEngine.unwrap();
+        Map<String, Object> data = ctx.data();
+        Object lang = data.get(KEY_LANG);
+        Locale locale = lang instanceof String language ? Locale.forLanguageTag(language) : Locale.getDefault();
+
+        IThrottledTemplateProcessor processor;
+        try {
+            processor = engine.processThrottled(templatePath.toAbsolutePath().toString(), new Context(locale, data));
+        } catch (Exception e) {
+            logger.error("Failed to process template: " + templatePath, e);
+            ctx.response().setStatusCode(500).end("Failed to process template: " + templatePath + e.getMessage());
+            return;
+        }
+
+        ctx.response()
+                .setChunked(true)
+                .putHeader(CONTENT_TYPE, mimeType);
+        writeChunk(ctx, processor, templatePath);
+    }
+
+    private static void writeChunk(RoutingContext ctx, IThrottledTemplateProcessor processor, Path templatePath) {
+        HttpServerResponse response = ctx.response();
+        if (response.closed())
+            return;
+
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(CHUNK_SIZE);
+            processor.process(CHUNK_SIZE, out, StandardCharsets.UTF_8);
+            if (processor.isFinished()) {
+                response.end(Buffer.buffer(out.toByteArray()));
+                return;
+            }
+
+            if (out.size() > 0)
+                response.write(Buffer.buffer(out.toByteArray()));
+        } catch (Exception e) {
+            logger.error("Failed to process template: " + templatePath, e);
+            if (!response.headWritten())
+                response.setChunked(false).setStatusCode(500).end("Failed to process template: " + templatePath + e.getMessage());
+            else
+                // the status is sent already, so only the connection can tell that the page is incomplete
+                response.reset();
+            return;
+        }
+
+        if (response.writeQueueFull()) {
+            response.drainHandler(v -> {
+                response.drainHandler(null);
+                writeChunk(ctx, processor, templatePath);
+            });
+        } else {
+            ctx.vertx().runOnContext(v -> writeChunk(ctx, processor, templatePath));
+        }
+    }
+}
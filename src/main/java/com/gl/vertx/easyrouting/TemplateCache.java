@@ -0,0 +1,164 @@
+/*
+ *
+ * Copyright 2025 Gregory Ledenev (gregory.ledenev37@gmail.com)
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies
+ * of the Software, and to permit persons to whom the Software is furnished to do
+ * so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * /
+ */
+
+package com.gl.vertx.easyrouting;
+
+import com.gl.vertx.easyrouting.annotations.FileFromFolder;
+import com.gl.vertx.easyrouting.annotations.Template;
+import com.gl.vertx.easyrouting.annotations.TemplateModel;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.common.template.TemplateEngine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static com.gl.vertx.easyrouting.Result.CT_TEXT_HTML;
+import static com.gl.vertx.easyrouting.Result.getMimeType;
+
+/**
+ * Keeps templates of {@code @Template} routes warm. Templates of all {@code @Template} folders are compiled at startup
+ * by rendering them once with an empty model, so template engines keep them in their caches before the first
+ * request. Rendered output of routes marked with {@link Template#cacheRendered()} is cached per template and
+ * fingerprint of its {@link TemplateModel}.
+ */
+final class TemplateCache {
+    private static final Logger logger = LoggerFactory.getLogger(TemplateCache.class);
+
+    private static final int MAX_RENDERED = 1024;
+    private static final long MAX_RENDERED_BYTES = 16L * 1024 * 1024;
+
+    private static final Map<RenderKey, Buffer> rendered = new ConcurrentHashMap<>();
+    private static final AtomicLong renderedBytes = new AtomicLong();
+
+    private TemplateCache() {
+    }
+
+    /**
+     * Checks whether a file should be processed by a template engine.
+     *
+     * @param template the template annotation of a route; can be {@code null}
+     * @param mimeType MIME type of the file
+     * @return {@code true} if the file is a template
+     */
+    static boolean isTemplate(Template template, String mimeType) {
+        return template != null &&
+                (CT_TEXT_HTML.equals(mimeType) || Arrays.asList(template.processMimeTypes()).contains(mimeType));
+    }
+
+    /**
+     * Renders a template.
+     *
+     * @param templateEngine   the template engine
+     * @param ctx              the routing context holding the template model
+     * @param templatePath     path of the template
+     * @param lastModifiedTime modification time of the template, so the output of a changed template is not reused
+     * @param cacheRendered    {@code true} to cache rendered output
+     * @return a future with rendered output
+     */
+    static Future<Buffer> render(TemplateEngine templateEngine, RoutingContext ctx, Path templatePath,
+                                 long lastModifiedTime, boolean cacheRendered) {
+        String template = templatePath.toAbsolutePath().toString();
+        if (!cacheRendered)
+            return templateEngine.render(ctx.data(), template);
+
+        RenderKey key = new RenderKey(templateEngine, template, lastModifiedTime, new TemplateModel(ctx).fingerprint());
+        Buffer buffer = rendered.get(key);
+        if (buffer != null)
+            return Future.succeededFuture(buffer.slice());
+
+        return templateEngine.render(ctx.data(), template).map(result -> {
+            if (rendered.size() >= MAX_RENDERED || renderedBytes.get() + result.length() > MAX_RENDERED_BYTES) {
+                rendered.clear();
+                renderedBytes.set(0);
+            }
+            if (rendered.putIfAbsent(key, result) == null)
+                renderedBytes.addAndGet(result.length());
+            return result.slice();
+        });
+    }
+
+    /**
+     * Compiles templates of {@code @Template} routes of a controller class. Templates are listed on a worker thread and
+     * compiled by rendering them once with an empty model, as template engines compile and cache templates when they
+     * are rendered for the first time. So expressions of templates are evaluated at startup, including any side
+     * effects they have; templates that fail to render with an empty model are logged and compiled on first use.
+     *
+     * @param vertx           the Vert.x instance
+     * @param templateEngine  the template engine
+     * @param controllerClass the controller class
+     */
+    static void preload(Vertx vertx, TemplateEngine templateEngine, Class<?> controllerClass) {
+        for (Method method : controllerClass.getDeclaredMethods()) {
+            Template template = method.getAnnotation(Template.class);
+            FileFromFolder fileFromFolder = method.getAnnotation(FileFromFolder.class);
+            if (template != null && fileFromFolder != null) {
+                Path folder = Path.of(fileFromFolder.value());
+                vertx.executeBlocking(() -> listTemplates(folder, template), false)
+                        .compose(templates -> preload(templateEngine, templates))
+                        .onSuccess(count -> logger.info("Preloaded " + count + " template(s) in: " + folder))
+                        .onFailure(ex -> logger.warn("Failed to preload templates in: " + folder, ex));
+            }
+        }
+    }
+
+    private static List<Path> listTemplates(Path folder, Template template) throws Exception {
+        try (Stream<Path> files = Files.list(folder)) {
+            return files
+                    .filter(file -> Files.isRegularFile(file) &&
+                            isTemplate(template, getMimeType(file.getFileName().toString())))
+                    .toList();
+        }
+    }
+
+    /**
+     * Renders templates once and counts the ones rendered successfully.
+     */
+    private static Future<Integer> preload(TemplateEngine templateEngine, List<Path> templates) {
+        List<Future<Boolean>> results = new ArrayList<>(templates.size());
+        for (Path file : templates) {
+            results.add(templateEngine.render(new HashMap<>(), file.toAbsolutePath().toString())
+                    .map(true)
+                    .otherwise(ex -> {
+                        logger.warn("Failed to preload template: " + file, ex);
+                        return false;
+                    }));
+        }
+        return Future.all(results).map(all -> (int) results.stream().filter(Future::result).count());
+    }
+
+    private record RenderKey(TemplateEngine templateEngine, String template, long lastModifiedTime, Object model) {
+    }
+}
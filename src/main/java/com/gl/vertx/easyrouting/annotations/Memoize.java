@@ -0,0 +1,60 @@
+/*
+ *
+ * Copyright 2025 Gregory Ledenev (gregory.ledenev37@gmail.com)
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies
+ * of the Software, and to permit persons to whom the Software is furnished to do
+ * so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * /
+ */
+package com.gl.vertx.easyrouting.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation to mark handler methods whose results change rarely, like feature flags or configuration snapshots. The
+ * response of such a method is encoded once and then sent as is, without invoking the method, until it expires or
+ * is invalidated via {@link com.gl.vertx.easyrouting.EasyRouting#invalidateMemoized(String)}.
+ * <p>
+ * Note:
+ * <ol>
+ *  <li>Only methods without parameters can be memoized; the annotation is ignored for other methods.</li>
+ *  <li>Responses are memoized per value of the {@code Accept} header, as it may affect content negotiation.</li>
+ *  <li>Results that can't be encoded up front, like files, redirects, templates or results with custom handlers,
+ *  are not memoized.</li>
+ * <ol/>
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Memoize {
+    /**
+     * Time to live of a memoized response in milliseconds.
+     * @return the time to live in milliseconds; {@code 0} means that the response never expires (default: 0)
+     */
+    long ttl() default 0;
+
+    /**
+     * Name of a group of memoized responses, which allows invalidating them together.
+     * @return the group name (default: empty)
+     */
+    String group() default "";
+}
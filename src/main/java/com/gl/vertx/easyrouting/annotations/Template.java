@@ -37,5 +37,20 @@ import java.lang.annotation.Target;
 @Retention(RetentionPolicy.RUNTIME)
 @Target(ElementType.METHOD)
 public @interface Template {
+    /**
+     * MIME types of files to process in addition to HTML files.
+     */
     String[] processMimeTypes() default {};
+
+    /**
+     * Specifies whether rendered output should be cached and reused for requests with equal template models. Should be
+     * used only if template models consist of immutable values.
+     */
+    boolean cacheRendered() default false;
+
+    /**
+     * Specifies whether output should be sent in chunks while it is rendered, which shortens time to the first byte of
+     * large pages. Supported by Thymeleaf engines only; ignored if output is cached.
+     */
+    boolean stream() default false;
 }
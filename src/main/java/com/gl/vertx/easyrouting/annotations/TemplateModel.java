@@ -29,16 +29,35 @@ package com.gl.vertx.easyrouting.annotations;
 import io.vertx.ext.web.RoutingContext;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 
 public class TemplateModel implements Map<String, Object> {
+    private static final String INTERNAL_KEY_PREFIX = "easyRouting";
+
     private final RoutingContext ctx;
 
     public TemplateModel(RoutingContext aCtx) {
         ctx = aCtx;
     }
 
+    /**
+     * Returns a fingerprint of the model: an immutable snapshot of its entries, which is equal to fingerprints of
+     * models with equal entries. Internal entries put by EasyRouting are not included.
+     *
+     * @return a fingerprint of the model
+     */
+    public Object fingerprint() {
+        Map<String, Object> result = new HashMap<>();
+        for (Entry<String, Object> entry : ctx.data().entrySet()) {
+            if (!entry.getKey().startsWith(INTERNAL_KEY_PREFIX))
+                result.put(entry.getKey(), entry.getValue());
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
     @Override
     public int size() {
         return ctx.data().size();
@@ -0,0 +1,214 @@
+/*
+ *
+ * Copyright 2025 Gregory Ledenev (gregory.ledenev37@gmail.com)
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies
+ * of the Software, and to permit persons to whom the Software is furnished to do
+ * so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * /
+ */
+
+package com.gl.vertx.easyrouting;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.annotation.processing.Processor;
+import javax.tools.*;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compiles a sample application with the annotation processor from the <i>easyrouting-processor</i> folder, checks
+ * the generated registrar and verifies that handler methods are called through it.
+ */
+public class ControllerRegistrarTest {
+    private static final Path PROCESSOR_SOURCES = Path.of("easyrouting-processor", "src", "main", "java");
+    private static final String PROCESSOR_CLASS = "com.gl.vertx.easyrouting.processor.EasyRoutingProcessor";
+    private static final String APPLICATION_CLASS = "sample.SampleApplication";
+    private static final String REGISTRAR_CLASS = APPLICATION_CLASS + ControllerRegistrar.SUFFIX;
+
+    private static final String APPLICATION_SOURCE = """
+            package sample;
+
+            import com.gl.vertx.easyrouting.Application;
+            import com.gl.vertx.easyrouting.annotations.Param;
+
+            import static com.gl.vertx.easyrouting.annotations.HttpMethods.GET;
+
+            public class SampleApplication extends Application {
+                @GET("/static")
+                public static String staticHandler() {
+                    return "static";
+                }
+
+                @GET("/private")
+                private String privateHandler() {
+                    return caller();
+                }
+
+                @GET("/caller")
+                public String callerHandler() {
+                    return caller();
+                }
+
+                @GET("/primitive")
+                int add(@Param("a") int a, @Param("b") long b) {
+                    return (int) (a + b);
+                }
+
+                @GET("/array")
+                public long sum(@Param("id") long[] ids) {
+                    long result = 0;
+                    for (long id : ids)
+                        result += id;
+                    return result;
+                }
+
+                @GET("/overloaded")
+                public String overloaded(@Param("a") String a) {
+                    return a;
+                }
+
+                @GET("/overloaded")
+                public String overloaded(@Param("a") String a, @Param("b") int b) {
+                    return a + b;
+                }
+
+                private static String caller() {
+                    return StackWalker.getInstance().walk(frames -> frames.skip(2).findFirst().orElseThrow().getClassName());
+                }
+            }
+            """;
+
+    @TempDir
+    static Path tempDir;
+
+    private static Path classes;
+    private static String registrarSource;
+
+    @BeforeAll
+    static void compileSampleApplication() throws Exception {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        String classPath = System.getProperty("java.class.path");
+
+        Path processorClasses = Files.createDirectories(tempDir.resolve("processor"));
+        List<Path> processorSources;
+        try (Stream<Path> files = Files.walk(PROCESSOR_SOURCES)) {
+            processorSources = files.filter(file -> file.toString().endsWith(".java")).toList();
+        }
+        compile(compiler, processorSources, null, "-d", processorClasses.toString());
+
+        Path sources = Files.createDirectories(tempDir.resolve("src/sample"));
+        Path generated = Files.createDirectories(tempDir.resolve("generated"));
+        classes = Files.createDirectories(tempDir.resolve("classes"));
+        Path applicationSource = Files.writeString(sources.resolve("SampleApplication.java"), APPLICATION_SOURCE);
+
+        try (URLClassLoader processorLoader = new URLClassLoader(new URL[]{processorClasses.toUri().toURL()})) {
+            Processor processor = (Processor) processorLoader.loadClass(PROCESSOR_CLASS)
+                    .getDeclaredConstructor().newInstance();
+            compile(compiler, List.of(applicationSource), processor,
+                    "-parameters", "-classpath", classPath, "-d", classes.toString(), "-s", generated.toString());
+        }
+
+        registrarSource = Files.readString(generated.resolve("sample/SampleApplication" + ControllerRegistrar.SUFFIX + ".java"));
+    }
+
+    private static void compile(JavaCompiler compiler, List<Path> sources, Processor processor, String... options)
+            throws IOException {
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, null)) {
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, List.of(options),
+                    null, fileManager.getJavaFileObjectsFromPaths(sources));
+            if (processor != null)
+                task.setProcessors(List.of(processor));
+            else
+                task.setProcessors(new ArrayList<>());
+            assertTrue(task.call(), () -> "Compilation failed: " + diagnostics.getDiagnostics());
+        }
+    }
+
+    @Test
+    void testGeneratedRegistrar() {
+        assertTrue(registrarSource.contains("public final class SampleApplication_EasyRoutingRegistrar " +
+                "implements com.gl.vertx.easyrouting.ControllerRegistrar"));
+        // private handlers are listed with no invoker
+        assertTrue(registrarSource.contains("\"privateHandler\", new Class<?>[]{}, null)"));
+        assertTrue(registrarSource.contains("return sample.SampleApplication.staticHandler();"));
+        assertTrue(registrarSource.contains("\"add\", new Class<?>[]{int.class, long.class}"));
+        assertTrue(registrarSource.contains("arg0 = (int) args[0];"));
+        assertTrue(registrarSource.contains("\"sum\", new Class<?>[]{long[].class}"));
+        assertTrue(registrarSource.contains("\"overloaded\", new Class<?>[]{java.lang.String.class}"));
+        assertTrue(registrarSource.contains("\"overloaded\", new Class<?>[]{java.lang.String.class, int.class}"));
+        assertTrue(Files.exists(classes.resolve("sample/SampleApplication" + ControllerRegistrar.SUFFIX + ".class")));
+    }
+
+    @Test
+    void testDispatchThroughRegistrar() throws Throwable {
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{classes.toUri().toURL()},
+                getClass().getClassLoader())) {
+            Class<?> applicationClass = classLoader.loadClass(APPLICATION_CLASS);
+            assertNotNull(ControllerRegistrar.find(applicationClass));
+
+            Application app = ((Application) applicationClass.getDeclaredConstructor().newInstance()).
+                    onStartCompletion(application -> {
+                        try {
+                            assertEquals(REGISTRAR_CLASS, get("caller"));
+                            // private handlers are called via reflection
+                            assertNotEquals(REGISTRAR_CLASS, get("private"));
+                            assertEquals("static", get("static"));
+                            assertEquals("3", get("primitive?a=1&b=2"));
+                            assertEquals("6", get("array?id=1&id=2&id=3"));
+                            assertEquals("x", get("overloaded?a=x"));
+                            assertEquals("x2", get("overloaded?a=x&b=2"));
+                        } finally {
+                            application.stop();
+                        }
+                    }).
+                    start(8080);
+
+            app.handleCompletionHandlerFailure();
+        }
+    }
+
+    private static String get(String path) {
+        try {
+            HttpResponse<String> response = HttpClient.newHttpClient().send(
+                    HttpRequest.newBuilder(URI.create("http://localhost:8080/" + path)).GET().build(),
+                    HttpResponse.BodyHandlers.ofString());
+            assertEquals(200, response.statusCode(), response::body);
+            return response.body();
+        } catch (IOException | InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ *
+ * Copyright 2025 Gregory Ledenev (gregory.ledenev37@gmail.com)
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies
+ * of the Software, and to permit persons to whom the Software is furnished to do
+ * so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * /
+ */
+
+package com.gl.vertx.easyrouting;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pins the contract of {@link MethodInvoker}s that exception handling relies on: exceptions thrown by invoked methods
+ * are wrapped into {@link InvocationTargetException}, while improper arguments lead to
+ * {@link IllegalArgumentException}. Generated and reflective invokers must behave the same.
+ */
+public class MethodInvokerTest {
+    private static final List<Function<Method, MethodInvoker>> FACTORIES =
+            List.of(MethodInvoker::of, MethodInvoker::reflective);
+
+    public static class Target {
+        public String greet(String name) {
+            return "Hello " + name;
+        }
+
+        public static int sum(int a, long b) {
+            return (int) (a + b);
+        }
+
+        public void nothing() {
+        }
+
+        public static String join(String separator, String... parts) {
+            return String.join(separator, parts);
+        }
+
+        public double half(double value) {
+            return value / 2;
+        }
+
+        public String failUnchecked() {
+            throw new IllegalStateException("unchecked");
+        }
+
+        public String failChecked() throws IOException {
+            throw new IOException("checked");
+        }
+
+        public static void failArgument(String value) {
+            throw new IllegalArgumentException("thrown by method: " + value);
+        }
+
+        private String hidden() {
+            return "hidden";
+        }
+    }
+
+    private static Method method(String name) {
+        for (Method method : Target.class.getDeclaredMethods()) {
+            if (method.getName().equals(name))
+                return method;
+        }
+        throw new IllegalArgumentException(name);
+    }
+
+    private static boolean isGenerated(MethodInvoker invoker) {
+        return invoker.getClass().getName().startsWith(MethodInvoker.class.getName() + "$Generated");
+    }
+
+    @Test
+    void testGeneratedInvoker() throws Exception {
+        // invokers of static, instance, primitive-returning, void and varargs methods run the generated class
+        for (String name : List.of("greet", "sum", "nothing", "join", "half")) {
+            MethodInvoker invoker = MethodInvokerGenerator.generate(method(name));
+            assertTrue(isGenerated(invoker), name);
+        }
+        assertEquals("Hello John", MethodInvokerGenerator.generate(method("greet"))
+                .invoke(new Target(), new Object[]{"John"}));
+        assertEquals(3, MethodInvokerGenerator.generate(method("sum")).invoke(null, new Object[]{1, 2L}));
+        assertNull(MethodInvokerGenerator.generate(method("nothing")).invoke(new Target(), new Object[0]));
+        assertEquals("a-b", MethodInvokerGenerator.generate(method("join"))
+                .invoke(null, new Object[]{"-", new String[]{"a", "b"}}));
+        assertEquals(1.5, MethodInvokerGenerator.generate(method("half")).invoke(new Target(), new Object[]{3.0}));
+
+        assertTrue(isGenerated(MethodInvoker.of(method("greet"))));
+        assertTrue(isGenerated(MethodInvoker.of(method("sum"))));
+        // private methods aren't accessible from EasyRouting, so they fall back to reflection
+        assertFalse(isGenerated(MethodInvoker.of(method("hidden"))));
+    }
+
+    @Test
+    void testInvokersAreCached() {
+        assertSame(MethodInvoker.of(method("greet")), MethodInvoker.of(method("greet")));
+        assertSame(MethodInvoker.of(method("hidden")), MethodInvoker.of(method("hidden")));
+    }
+
+    @Test
+    void testResults() throws Exception {
+        for (Function<Method, MethodInvoker> factory : FACTORIES) {
+            assertEquals("Hello John", factory.apply(method("greet")).invoke(new Target(), new Object[]{"John"}));
+            assertEquals(3, factory.apply(method("sum")).invoke(null, new Object[]{1, 2L}));
+            assertNull(factory.apply(method("nothing")).invoke(new Target(), new Object[0]));
+            assertEquals("hidden", factory.apply(method("hidden")).invoke(new Target(), new Object[0]));
+        }
+    }
+
+    @Test
+    void testExceptionsAreWrapped() {
+        for (Function<Method, MethodInvoker> factory : FACTORIES) {
+            InvocationTargetException e = assertThrows(InvocationTargetException.class,
+                    () -> factory.apply(method("failUnchecked")).invoke(new Target(), new Object[0]));
+            assertInstanceOf(IllegalStateException.class, e.getTargetException());
+
+            e = assertThrows(InvocationTargetException.class,
+                    () -> factory.apply(method("failChecked")).invoke(new Target(), new Object[0]));
+            assertInstanceOf(IOException.class, e.getTargetException());
+
+            // an IllegalArgumentException thrown by the method itself is not an improper argument
+            e = assertThrows(InvocationTargetException.class,
+                    () -> factory.apply(method("failArgument")).invoke(null, new Object[]{"value"}));
+            assertEquals("thrown by method: value", e.getTargetException().getMessage());
+        }
+    }
+
+    @Test
+    void testImproperArguments() {
+        for (Function<Method, MethodInvoker> factory : FACTORIES) {
+            MethodInvoker greet = factory.apply(method("greet"));
+            assertThrows(IllegalArgumentException.class, () -> greet.invoke(new Target(), new Object[]{1}));
+            assertThrows(IllegalArgumentException.class, () -> greet.invoke(new Target(), new Object[0]));
+            assertThrows(IllegalArgumentException.class, () -> greet.invoke("not a target", new Object[]{"John"}));
+
+            MethodInvoker sum = factory.apply(method("sum"));
+            assertThrows(IllegalArgumentException.class, () -> sum.invoke(null, new Object[]{null, 2L}));
+            assertThrows(IllegalArgumentException.class, () -> sum.invoke(null, new Object[]{"1", 2L}));
+        }
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ *
+ * Copyright 2025 Gregory Ledenev (gregory.ledenev37@gmail.com)
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the “Software”), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies
+ * of the Software, and to permit persons to whom the Software is furnished to do
+ * so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ * /
+ */
+
+package com.gl.vertx.easyrouting;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.deser.DefaultDeserializationContext;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that record codecs read records the same way as Jackson's own codecs do and that records they can't
+ * specialize are left to Jackson.
+ */
+public class RecordCodecsTest {
+    public record Person(String name, int age, boolean active) {
+    }
+
+    public record AnnotatedPerson(@JsonProperty("fullName") String name, int age) {
+    }
+
+    public record Box<T>(T value) {
+    }
+
+    public record MixedInPerson(String name, int age) {
+    }
+
+    public interface PersonMixIn {
+        @JsonProperty("fullName")
+        String name();
+    }
+
+    private static JsonMapper.Builder builder(boolean recordCodecs) {
+        JsonMapper.Builder builder = JsonMapper.builder().addMixIn(MixedInPerson.class, PersonMixIn.class);
+        return recordCodecs ? builder.addModule(RecordCodecs.module()) : builder;
+    }
+
+    /**
+     * Reads JSON with and without record codecs and checks that both read the same value or fail the same way.
+     */
+    private static Object assertSameAsJackson(String json, Class<?> type, DeserializationFeature... enabled) {
+        Object expected = read(builder(false).enable(enabled).build(), json, type);
+        Object actual = read(builder(true).enable(enabled).build(), json, type);
+        assertEquals(expected, actual);
+        return actual;
+    }
+
+    private static Object read(ObjectMapper mapper, String json, Class<?> type) {
+        try {
+            return mapper.readValue(json, type);
+        } catch (Exception e) {
+            return e.getClass();
+        }
+    }
+
+    private static boolean isSpecialized(Class<?> type) throws JsonMappingException {
+        ObjectMapper mapper = builder(true).build();
+        JsonSerializer<Object> serializer = mapper.getSerializerProviderInstance().findValueSerializer(type);
+        DefaultDeserializationContext context = ((DefaultDeserializationContext) mapper.getDeserializationContext())
+                .createDummyInstance(mapper.getDeserializationConfig());
+        JsonDeserializer<Object> deserializer = context.findRootValueDeserializer(mapper.constructType(type));
+        assertEquals(serializer instanceof RecordCodecs.RecordSerializer,
+                deserializer instanceof RecordCodecs.RecordDeserializer);
+        return serializer instanceof RecordCodecs.RecordSerializer;
+    }
+
+    @Test
+    void testReadsAndWrites() throws Exception {
+        assertEquals(new Person("John", 30, true),
+                assertSameAsJackson("{\"name\":\"John\",\"age\":30,\"active\":true}", Person.class));
+        assertEquals(builder(false).build().writeValueAsString(new Person("John", 30, true)),
+                builder(true).build().writeValueAsString(new Person("John", 30, true)));
+    }
+
+    @Test
+    void testUnknownProperties() {
+        assertEquals(UnrecognizedPropertyException.class,
+                assertSameAsJackson("{\"name\":\"John\",\"nickname\":\"Johnny\"}", Person.class));
+
+        ObjectMapper lenient = builder(true).disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES).build();
+        assertEquals(new Person("John", 0, false),
+                read(lenient, "{\"name\":\"John\",\"nickname\":{\"first\":[1,2]}}", Person.class));
+    }
+
+    @Test
+    void testMissingPrimitives() {
+        assertEquals(new Person("John", 0, false), assertSameAsJackson("{\"name\":\"John\"}", Person.class));
+        assertEquals(new Person(null, 0, false), assertSameAsJackson("{}", Person.class));
+        assertEquals(MismatchedInputException.class, assertSameAsJackson("{\"name\":\"John\"}", Person.class,
+                DeserializationFeature.FAIL_ON_NULL_FOR_PRIMITIVES));
+        assertEquals(MismatchedInputException.class, assertSameAsJackson("{\"name\":\"John\"}", Person.class,
+                DeserializationFeature.FAIL_ON_MISSING_CREATOR_PROPERTIES));
+    }
+
+    @Test
+    void testNullPrimitives() {
+        assertEquals(new Person("John", 0, false),
+                assertSameAsJackson("{\"name\":\"John\",\"age\":null,\"active\":null}", Person.class));
+        assertEquals(MismatchedInputException.class, assertSameAsJackson("{\"name\":\"John\",\"age\":null}", Person.class,
+                DeserializationFeature.FAIL_ON_NULL_FOR_PRIMITIVES));
+    }
+
+    @Test
+    void testNullCreatorProperties() {
+        assertEquals(MismatchedInputException.class, assertSameAsJackson("{\"age\":30}", Person.class,
+                DeserializationFeature.FAIL_ON_NULL_CREATOR_PROPERTIES));
+        assertEquals(MismatchedInputException.class, assertSameAsJackson("{\"name\":null,\"age\":30}", Person.class,
+                DeserializationFeature.FAIL_ON_NULL_CREATOR_PROPERTIES));
+        assertEquals(new Person("John", 0, false), assertSameAsJackson("{\"name\":\"John\"}", Person.class,
+                DeserializationFeature.FAIL_ON_NULL_CREATOR_PROPERTIES));
+    }
+
+    @Test
+    void testExclusions() throws Exception {
+        assertTrue(isSpecialized(Person.class));
+        assertFalse(isSpecialized(AnnotatedPerson.class));
+        assertFalse(isSpecialized(Box.class));
+        assertFalse(isSpecialized(MixedInPerson.class));
+
+        assertEquals(new AnnotatedPerson("John", 30),
+                assertSameAsJackson("{\"fullName\":\"John\",\"age\":30}", AnnotatedPerson.class));
+        assertEquals(new MixedInPerson("John", 30),
+                assertSameAsJackson("{\"fullName\":\"John\",\"age\":30}", MixedInPerson.class));
+        assertEquals(new Box<>(List.of(1, 2)), assertSameAsJackson("{\"value\":[1,2]}", Box.class));
+    }
+}
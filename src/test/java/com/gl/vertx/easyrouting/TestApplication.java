@@ -1,15 +1,31 @@
 package com.gl.vertx.easyrouting;
 
 import com.gl.vertx.easyrouting.annotations.*;
+import io.vertx.core.Future;
+import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
 
 import static com.gl.vertx.easyrouting.TestApplication.User.of;
 import static com.gl.vertx.easyrouting.TestUtils.testGET;
@@ -17,6 +33,8 @@ import static com.gl.vertx.easyrouting.TestUtils.testPOST;
 import static com.gl.vertx.easyrouting.annotations.HttpMethods.GET;
 import static com.gl.vertx.easyrouting.annotations.HttpMethods.POST;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class TestApplication {
 
@@ -405,6 +423,60 @@ public class TestApplication {
                 });
     }
 
+    @Test
+    void testContentNegotiation() throws Throwable {
+        testGET(() -> new TestApplicationImpl().module(new TestConverters()), 8080, "testNegotiatedUser",
+                builder -> builder.header("Accept", "application/json;q=0.5, text/user-string"),
+                response -> {
+                    assertEquals(200, response.statusCode());
+                    assertEquals("text/user-string", response.headers().map().get("content-type").get(0));
+                    assertEquals("User[name=John Doe, email=john.doe@gmail.com]", response.body());
+                });
+        testGET(() -> new TestApplicationImpl().module(new TestConverters()), 8080, "testNegotiatedUser",
+                builder -> builder.header("Accept", "text/xml;q=0.5, application/*"),
+                response -> {
+                    assertEquals(200, response.statusCode());
+                    assertEquals("application/json", response.headers().map().get("content-type").get(0));
+                    assertEquals("{\"name\":\"John Doe\",\"email\":\"john.doe@gmail.com\"}", response.body());
+                });
+        testGET(() -> new TestApplicationImpl().module(new TestConverters()), 8080, "testNegotiatedUserResult",
+                builder -> builder.header("Accept", "application/json;q=0.5, text/user-string"),
+                response -> {
+                    assertEquals(200, response.statusCode());
+                    assertEquals("text/user-string", response.headers().map().get("content-type").get(0));
+                    assertEquals("User[name=John Doe, email=john.doe@gmail.com]", response.body());
+                });
+        testGET(() -> new TestApplicationImpl().module(new TestConverters()), 8080, "testNegotiatedUserFuture",
+                builder -> builder.header("Accept", "application/json;q=0.5, text/user-string"),
+                response -> {
+                    assertEquals(200, response.statusCode());
+                    assertEquals("text/user-string", response.headers().map().get("content-type").get(0));
+                    assertEquals("User[name=John Doe, email=john.doe@gmail.com]", response.body());
+                });
+    }
+
+    @Test
+    void testBinaryCodecs() throws Throwable {
+        byte[] cbor = JsonMapping.cbor().writeValueAsBuffer(new User("John Doe", "john.doe@gmail.com")).getBytes();
+        testPOST(TestApplicationImpl::new, 8080, "testBinaryUser",
+                builder -> builder
+                        .POST(HttpRequest.BodyPublishers.ofByteArray(cbor))
+                        .header("Content-Type", "application/cbor")
+                        .header("Accept", "application/json"),
+                "",
+                response -> {
+                    assertEquals(200, response.statusCode());
+                    assertEquals("{\"name\":\"John Doe\",\"email\":\"john.doe@gmail.com\"}", response.body());
+                });
+        testGET(TestApplicationImpl::new, 8080, "testNegotiatedUser",
+                builder -> builder.header("Accept", "application/json;q=0.9, application/cbor"),
+                response -> {
+                    assertEquals(200, response.statusCode());
+                    assertEquals("application/cbor", response.headers().map().get("content-type").get(0));
+                    assertTrue(response.body().contains("john.doe@gmail.com"));
+                });
+    }
+
     @Test
     void testConversionFrom() throws Throwable {
         testPOST(() -> new TestApplicationImpl().module(new TestConverters()), 8080, "testConversionFrom",
@@ -512,6 +584,320 @@ public class TestApplication {
                 });
     }
 
+    @Test
+    void testOverloadedParams() throws Throwable {
+        testGET(TestApplicationImpl::new, 8080, "overloaded?a=1",
+                null,
+                response -> {
+                    assertEquals(200, response.statusCode());
+                    assertEquals("a=1", response.body());
+                });
+        testGET(TestApplicationImpl::new, 8080, "overloaded?B=2&a=1",
+                null,
+                response -> {
+                    assertEquals(200, response.statusCode());
+                    assertEquals("a=1, b=2", response.body());
+                });
+        testGET(TestApplicationImpl::new, 8080, "overloaded?a=1&c=3",
+                null,
+                response -> assertEquals(404, response.statusCode()));
+    }
+
+    @Test
+    void testMultiValueParameters() throws Throwable {
+        testGET(TestApplicationImpl::new, 8080, "sumIds?id=1&id=2,3",
+                response -> {
+                    assertEquals(200, response.statusCode());
+                    assertEquals("6", response.body());
+                });
+        testGET(TestApplicationImpl::new, 8080, "sumIds?id=%5B4,5%5D",
+                response -> {
+                    assertEquals(200, response.statusCode());
+                    assertEquals("9", response.body());
+                });
+        testGET(TestApplicationImpl::new, 8080, "idList?id=1&id=%202,%203",
+                response -> {
+                    assertEquals(200, response.statusCode());
+                    assertEquals("[1, 2, 3]", response.body());
+                });
+        testGET(TestApplicationImpl::new, 8080, "nameList?name=Smith,%20John&name=Doe",
+                response -> {
+                    assertEquals(200, response.statusCode());
+                    assertEquals("Smith, John|Doe", response.body());
+                });
+        testGET(TestApplicationImpl::new, 8080, "nameArray?name=Smith,%20John",
+                response -> {
+                    assertEquals(200, response.statusCode());
+                    assertEquals("Smith, John", response.body());
+                });
+    }
+
+    @Test
+    void testMemoize() throws Throwable {
+        testGET(TestApplicationImpl::new, 8080, "memoizedCounter",
+                response -> {
+                    assertEquals(200, response.statusCode());
+                    assertEquals("text/plain", response.headers().map().get("content-type").get(0));
+                    assertEquals("1", response.body());
+                    assertEquals("1", getBody("memoizedCounter"));
+                    EasyRouting.invalidateMemoized("counters");
+                    assertEquals("2", getBody("memoizedCounter"));
+                    assertEquals("2", getBody("memoizedCounter"));
+                });
+        testGET(TestApplicationImpl::new, 8080, "memoizedResource",
+                response -> {
+                    assertEquals(200, response.statusCode());
+                    assertEquals("text/css", response.headers().firstValue("content-type").orElseThrow());
+                    assertEquals(readString("src/test/resources/com/gl/vertx/easyrouting/style.css"), response.body());
+                    assertEquals(response.body(), getBody("memoizedResource"));
+                });
+        testGET(TestApplicationImpl::new, 8080, "memoizedFile",
+                response -> {
+                    assertEquals(200, response.statusCode());
+                    assertEquals(readString("documents/style.css"), response.body());
+                    assertEquals(response.body(), getBody("memoizedFile"));
+                });
+    }
+
+    private static String readString(String path) {
+        try {
+            return Files.readString(Path.of(path));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Test
+    void testStaticFileConditionalRequests() throws Throwable {
+        testGET(TestApplicationImpl::new, 8080, "static/style.css",
+                response -> {
+                    assertEquals(200, response.statusCode());
+                    assertEquals("text/css", response.headers().firstValue("content-type").orElse(null));
+                    String etag = response.headers().firstValue("etag").orElse(null);
+                    String lastModified = response.headers().firstValue("last-modified").orElse(null);
+                    assertTrue(etag != null && lastModified != null);
+
+                    assertEquals(304, getStatusCode("static/style.css", "If-None-Match", etag));
+                    assertEquals(304, getStatusCode("static/style.css", "If-Modified-Since", lastModified));
+                    assertEquals(200, getStatusCode("static/style.css", "If-None-Match", "W/\"0-0\""));
+                    assertEquals(404, getStatusCode("static/missing.css", "If-None-Match", etag));
+                });
+    }
+
+    @Test
+    void testResourceAssets() throws Throwable {
+        testGET(TestApplicationImpl::new, 8080, "assets/script.js",
+                response -> {
+                    assertEquals(200, response.statusCode());
+                    assertEquals("text/javascript", response.headers().firstValue("content-type").orElse(null));
+                    assertTrue(response.headers().firstValue("content-encoding").isEmpty());
+                    String etag = response.headers().firstValue("etag").orElse(null);
+                    assertTrue(etag != null);
+
+                    HttpResponse<byte[]> gzipResponse = get("assets/script.js", "Accept-Encoding", "gzip, deflate");
+                    assertEquals("gzip", gzipResponse.headers().firstValue("content-encoding").orElse(null));
+                    assertTrue(gzipResponse.body().length < response.body().length());
+                    assertEquals(response.body(), gunzip(gzipResponse.body()));
+
+                    // representations with different content encodings have different strong tags
+                    String gzipEtag = gzipResponse.headers().firstValue("etag").orElse(null);
+                    assertTrue(gzipEtag != null && !gzipEtag.equals(etag));
+
+                    assertEquals(304, getStatusCode("assets/script.js", "If-None-Match", etag));
+                    assertEquals(304, getStatusCode("assets/script.js", "If-None-Match", gzipEtag));
+                    HttpResponse<byte[]> notModified = get("assets/script.js", "Accept-Encoding", "gzip",
+                            "If-None-Match", etag);
+                    assertEquals(304, notModified.statusCode());
+                    assertEquals(gzipEtag, notModified.headers().firstValue("etag").orElse(null));
+                    assertEquals(404, getStatusCode("assets/missing.js", "Accept-Encoding", "gzip"));
+                });
+    }
+
+    @Test
+    void testPrecompressedFiles() throws Throwable {
+        Path folder = Path.of("target", "precompressed-test");
+        Files.createDirectories(folder);
+        Files.copy(Path.of("documents", "script.js"), folder.resolve("script.js"), StandardCopyOption.REPLACE_EXISTING);
+        Files.copy(Path.of("documents", "index.html"), folder.resolve("index.html"), StandardCopyOption.REPLACE_EXISTING);
+        Files.deleteIfExists(folder.resolve("index.html.gz"));
+        Files.deleteIfExists(folder.resolve("script.js.gz"));
+        PrecompressedFiles.precompress(folder);
+        Files.deleteIfExists(folder.resolve("index.html.gz"));
+
+        testGET(TestApplicationImpl::new, 8080, "precompressed/script.js",
+                response -> {
+                    assertEquals(200, response.statusCode());
+                    assertEquals("accept-encoding", response.headers().firstValue("vary").orElse(null));
+                    assertTrue(response.headers().firstValue("content-encoding").isEmpty());
+
+                    HttpResponse<byte[]> gzipResponse = get("precompressed/script.js", "Accept-Encoding", "br, gzip");
+                    assertEquals("gzip", gzipResponse.headers().firstValue("content-encoding").orElse(null));
+                    assertEquals("text/javascript", gzipResponse.headers().firstValue("content-type").orElse(null));
+                    assertEquals(response.body(), gunzip(gzipResponse.body()));
+
+                    HttpResponse<byte[]> fallbackResponse = get("precompressed/index.html", "Accept-Encoding", "gzip");
+                    assertEquals(200, fallbackResponse.statusCode());
+                    assertTrue(fallbackResponse.headers().firstValue("content-encoding").isEmpty());
+                });
+    }
+
+    @Test
+    void testStaticFileCache() throws Throwable {
+        Path folder = Path.of("target", "static-cache-test");
+        Files.createDirectories(folder);
+        Path file = folder.resolve("data.txt");
+        Files.writeString(file, "first");
+
+        testGET(TestApplicationImpl::new, 8080, "cached/data.txt",
+                response -> {
+                    assertEquals(200, response.statusCode());
+                    assertEquals("first", response.body());
+                    assertEquals("first", getBody("cached/data.txt"));
+
+                    try {
+                        Files.writeString(file, "second");
+                        assertTrue(awaitBody("cached/data.txt", "second"));
+
+                        Files.delete(file);
+                        assertTrue(awaitBody("cached/data.txt", "File not found: data.txt"));
+
+                        // missing files are not cached, so a created file is served without waiting for a watch event
+                        Path created = folder.resolve("created.txt");
+                        Files.deleteIfExists(created);
+                        assertEquals("File not found: created.txt", getBody("cached/created.txt"));
+                        Files.writeString(created, "created");
+                        assertEquals("created", getBody("cached/created.txt"));
+                    } catch (Exception e) {
+                        throw new RuntimeException(e);
+                    }
+                });
+    }
+
+    @Test
+    void testRenderedTemplateCache() throws Throwable {
+        Path folder = Path.of("target", "template-test");
+        Files.createDirectories(folder);
+        Files.writeString(folder.resolve("page.html"),
+                "<html xmlns:th=\"http://www.thymeleaf.org\"><p th:text=\"${title}\"></p></html>");
+
+        testGET(() -> new TestApplicationImpl().templateEngine(TemplateEngineFactory.Type.Thymeleaf), 8080,
+                "rendered/page.html?title=first",
+                response -> {
+                    assertEquals(200, response.statusCode());
+                    assertEquals("text/html", response.headers().firstValue("content-type").orElse(null));
+                    assertEquals("<html><p>first</p></html>", response.body());
+                    assertEquals("<html><p>first</p></html>", getBody("rendered/page.html?title=first"));
+                    assertEquals("<html><p>second</p></html>", getBody("rendered/page.html?title=second"));
+                    assertEquals("<html><p>first</p></html>", getBody("rendered/page.html?title=first"));
+                });
+    }
+
+    @Test
+    void testStreamingTemplate() throws Throwable {
+        Path folder = Path.of("target", "streaming-template-test");
+        Files.createDirectories(folder);
+        Files.writeString(folder.resolve("list.html"),
+                "<ul xmlns:th=\"http://www.thymeleaf.org\"><li th:each=\"item : ${items}\" th:text=\"${item}\"></li></ul>");
+
+        testGET(() -> new TestApplicationImpl().templateEngine(TemplateEngineFactory.Type.Thymeleaf), 8080,
+                "streamed/list.html?count=5000",
+                response -> {
+                    assertEquals(200, response.statusCode());
+                    assertEquals("text/html", response.headers().firstValue("content-type").orElse(null));
+                    // streamed output has no content length
+                    assertTrue(response.headers().firstValue("content-length").isEmpty());
+
+                    StringBuilder expected = new StringBuilder("<ul>");
+                    for (int i = 0; i < 5000; i++)
+                        expected.append("<li>").append(i).append("</li>");
+                    assertEquals(expected.append("</ul>").toString(), response.body());
+                });
+    }
+
+    private static boolean awaitBody(String path, String body) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            if (body.equals(getBody(path)))
+                return true;
+            Thread.sleep(100);
+        }
+        return false;
+    }
+
+    private static String gunzip(byte[] bytes) {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static HttpResponse<byte[]> get(String path, String... headers) {
+        try {
+            return HttpClient.newHttpClient().send(
+                    HttpRequest.newBuilder(URI.create("http://localhost:8080/" + path)).headers(headers).GET().build(),
+                    HttpResponse.BodyHandlers.ofByteArray());
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static int getStatusCode(String path, String header, String value) {
+        try {
+            return HttpClient.newHttpClient().send(
+                    HttpRequest.newBuilder(URI.create("http://localhost:8080/" + path)).header(header, value).GET().build(),
+                    HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static String getBody(String path) {
+        try {
+            return HttpClient.newHttpClient().send(
+                    HttpRequest.newBuilder(URI.create("http://localhost:8080/" + path)).GET().build(),
+                    HttpResponse.BodyHandlers.ofString()).body();
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Test
+    void testJsonResults() throws Throwable {
+        testGET(TestApplicationImpl::new, 8080, "jsonMap?a=1",
+                null,
+                response -> {
+                    assertEquals(200, response.statusCode());
+                    assertEquals("{\"a\":\"1\",\"list\":[1,2]}", response.body());
+                });
+        testGET(TestApplicationImpl::new, 8080, "jsonEnum",
+                null,
+                response -> {
+                    assertEquals(200, response.statusCode());
+                    assertTrue(response.headers().firstValue("content-type").orElseThrow().startsWith("text/plain"));
+                    assertEquals("SECONDS", response.body());
+                });
+        testGET(TestApplicationImpl::new, 8080, "jsonUuid",
+                null,
+                response -> {
+                    assertEquals(200, response.statusCode());
+                    assertTrue(response.headers().firstValue("content-type").orElseThrow().startsWith("text/plain"));
+                    assertEquals("123e4567-e89b-12d3-a456-426614174000", response.body());
+                });
+        assertTrue(JsonMapping.getDefault().isScalar(java.util.concurrent.TimeUnit.class));
+        assertTrue(JsonMapping.getDefault().isScalar(java.util.UUID.class));
+        assertFalse(JsonMapping.getDefault().isScalar(User.class));
+    }
+
+    @Test
+    void testHandlesException() throws Throwable {
+        testGET(TestApplicationImpl::new, 8080, "failing",
+                null,
+                response -> {
+                    assertEquals(500, response.statusCode());
+                    assertEquals("Handled: failed", response.body());
+                });
+    }
+
     @Test
     void testHeaderParam() throws Throwable {
         testGET(TestApplicationImpl::new, 8080, "concatenateWithHeader?str1=Hello%20&str2=World&str3=!",
@@ -763,6 +1149,7 @@ public class TestApplication {
     static class TestApplicationImpl extends Application {
         public static final String JWT_PASSWORD = "veeeeeeeeeeeeeeeeeeeeeeeeeeeeeeeeeeeeeeeeeeeeeeeeeeeeeery long password";
         final UserService userService = new UserService();
+        private int memoizedCounter;
 
         public TestApplicationImpl() {
             jwtAuth(JWT_PASSWORD, "/api/*");
@@ -869,6 +1256,44 @@ public class TestApplication {
             return str1 + str2 + (str3 != null && str3.isEmpty() ? "" : str3);
         }
 
+        @GET(value = "/overloaded")
+        public String overloaded(@Param("a") String a) {
+            return "a=" + a;
+        }
+
+        @GET(value = "/overloaded")
+        public String overloaded(@Param("a") String a, @Param("b") String b) {
+            return "a=" + a + ", b=" + b;
+        }
+
+        @GET(value = "/jsonMap")
+        public Map<String, Object> jsonMap(@Param("a") String a) {
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("a", a);
+            result.put("list", new JsonArray().add(1).add(2));
+            return result;
+        }
+
+        @GET(value = "/jsonUuid")
+        public java.util.UUID jsonUuid() {
+            return java.util.UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+        }
+
+        @GET(value = "/jsonEnum")
+        public java.util.concurrent.TimeUnit jsonEnum() {
+            return java.util.concurrent.TimeUnit.SECONDS;
+        }
+
+        @GET(value = "/failing")
+        public String failing() {
+            throw new UnsupportedOperationException("failed");
+        }
+
+        @HandlesException(RuntimeException.class)
+        public Result<String> handleRuntimeException(Throwable exception) {
+            return new Result<>("Handled: " + exception.getMessage(), 500);
+        }
+
         @GET(value = "/concatenateWithHeader")
         public String concatenateWithHeader(@Param("str1") String str1,
                                             @Param("str2") String str2,
@@ -898,6 +1323,104 @@ public class TestApplication {
             return new User("John Doe", "john.doe@gmail.com");
         }
 
+        @GET("/testNegotiatedUser")
+        public User testNegotiatedUser() {
+            return new User("John Doe", "john.doe@gmail.com");
+        }
+
+        @GET("/testNegotiatedUserResult")
+        public Result<User> testNegotiatedUserResult() {
+            return new Result<>(new User("John Doe", "john.doe@gmail.com"));
+        }
+
+        @GET("/testNegotiatedUserFuture")
+        public Future<User> testNegotiatedUserFuture() {
+            return Future.succeededFuture(new User("John Doe", "john.doe@gmail.com"));
+        }
+
+        @Memoize(group = "counters")
+        @GET("/memoizedCounter")
+        public int memoizedCounter() {
+            return ++memoizedCounter;
+        }
+
+        @Memoize
+        @GET("/memoizedResource")
+        public Result<String> memoizedResource() {
+            return Result.fileFromResource(TestApplication.class, "style.css");
+        }
+
+        @Memoize
+        @GET("/memoizedFile")
+        public Result<?> memoizedFile() {
+            return Result.fileFromFolder(Path.of("documents"), "style.css", null);
+        }
+
+        @GET("/static/*")
+        @FileFromFolder("documents")
+        public String staticFile(@PathParam("path") String path) {
+            return path;
+        }
+
+        @GET("/assets/*")
+        @FileFromResource(TestApplication.class)
+        public String asset(@PathParam("path") String path) {
+            return path;
+        }
+
+        @GET("/precompressed/*")
+        @FileFromFolder("target/precompressed-test")
+        public String precompressedFile(@PathParam("path") String path) {
+            return path;
+        }
+
+        @GET("/cached/*")
+        @FileFromFolder("target/static-cache-test")
+        public String cachedFile(@PathParam("path") String path) {
+            return path;
+        }
+
+        @GET("/rendered/*")
+        @Template(cacheRendered = true) @FileFromFolder("target/template-test")
+        public String renderedFile(@PathParam("path") String path, @Param("title") String title,
+                                   TemplateModel templateModel) {
+            templateModel.put("title", title);
+            return path;
+        }
+
+        @GET("/streamed/*")
+        @Template(stream = true) @FileFromFolder("target/streaming-template-test")
+        public String streamedFile(@PathParam("path") String path, @Param("count") int count,
+                                   TemplateModel templateModel) {
+            templateModel.put("items", IntStream.range(0, count).boxed().toList());
+            return path;
+        }
+
+        @GET("/sumIds")
+        public long sumIds(@Param("id") long[] ids) {
+            return Arrays.stream(ids).sum();
+        }
+
+        @GET("/idList")
+        public String idList(@Param("id") List<Integer> ids) {
+            return ids.toString();
+        }
+
+        @GET("/nameList")
+        public String nameList(@Param("name") List<String> names) {
+            return String.join("|", names);
+        }
+
+        @GET("/nameArray")
+        public String nameArray(@Param("name") String[] names) {
+            return String.join("|", names);
+        }
+
+        @POST("/testBinaryUser")
+        public User testBinaryUser(@BodyParam("user") User user) {
+            return user;
+        }
+
         @ContentType("text/user-string")
         @POST("/testConversionFrom")
         public User testConversionFrom(@BodyParam("user") User user) {